@@ -1,5 +1,9 @@
 package com.fererlab.datastructure.collection;
 
+import com.fererlab.datastructure.iterator.Iterable;
+
+import java.util.function.Predicate;
+
 /**
  * Command interface of Collection
  */
@@ -12,6 +16,26 @@ public interface CCollection<T> {
      */
     void add(T value);
 
+    /**
+     * adds all the values in order
+     *
+     * @param values object values
+     */
+    default void addAll(T[] values) {
+        for (T value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * adds all the values in iteration order
+     *
+     * @param values iterable of values
+     */
+    default void addAll(Iterable<? extends T> values) {
+        values.forEach(this::add);
+    }
+
     /**
      * removes the value at the index
      *
@@ -26,6 +50,40 @@ public interface CCollection<T> {
      */
     void remove(T value);
 
+    /**
+     * removes all the values matching the filter
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    void removeIf(Predicate<? super T> filter);
+
+    /**
+     * removes all the values that are contained in the values
+     *
+     * @param values collection of values to be removed
+     */
+    default void removeAll(QCollection<? super T> values) {
+        removeIf(values::contains);
+    }
+
+    /**
+     * removes all the values that are not contained in the values
+     *
+     * @param values collection of values to be kept
+     */
+    default void retainAll(QCollection<? super T> values) {
+        removeIf(value -> !values.contains(value));
+    }
+
+    /**
+     * removes the values from the start index, inclusive, to the end index, exclusive,
+     * indices outside of the collection are ignored
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    void removeRange(int fromIndex, int toIndex);
+
     /**
      * clears the collection, sets size to 0, removes all references and sets values to null
      */
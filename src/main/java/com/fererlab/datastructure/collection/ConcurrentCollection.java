@@ -0,0 +1,274 @@
+package com.fererlab.datastructure.collection;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent collection, decorates a collection with a {@code StampedLock}
+ * <p/>
+ * Reads take the read lock, so readers do not block each other, writes take the write lock.
+ * Bulk reads, {@code iterator}, {@code spliterator} and {@code stream},
+ * copy the values under the read lock and iterate the copy, the copy can not remove values.
+ * <p/>
+ * If the decorated collection is {@link OptimisticReadable}, {@code getOrDefault}, {@code isPresentAt},
+ * {@code contains} and {@code getSize} first run without a lock under an optimistic stamp, if a write happened
+ * meanwhile the stamp does not validate and the query runs again under the read lock, so readers do not write
+ * to shared memory while there is no writer. Other collections and the functions given to {@code read}
+ * are never run optimistically, they may not be safe to run in the middle of a write.
+ * Operations that are not part of the collection interfaces, like {@code peek} of a queue,
+ * can be run with {@code read} and {@code write}.
+ * <p/>
+ * <code>
+ * <pre>
+ *   ConcurrentCollection&lt;String, Queue&lt;String&gt;&gt; queue = new ConcurrentCollection&lt;&gt;(new Queue&lt;&gt;());
+ *   queue.add("first");
+ *   String head = queue.read(q -&gt; q.peekOrDefault(null));
+ * </pre>
+ * </code>
+ * <p/>
+ * The lock is not reentrant, functions passed to this class should not call it again.
+ *
+ * @param <T> generic type of the value
+ * @param <C> type of the decorated collection
+ */
+public final class ConcurrentCollection<T, C extends QCollection<T> & CCollection<T> & Iterable<T>>
+        implements QCollection<T>, CCollection<T>, Iterable<T> {
+
+    /**
+     * internal iterator class, iterates the values copied at the time it was created
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private final Object[] snapshot = toArray();
+
+        @Override
+        protected int getSize() {
+            return snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected T get(int index) {
+            return (T) snapshot[index];
+        }
+
+        /**
+         * not supported, the iterator does not see the current collection
+         *
+         * @param index int value index
+         */
+        @Override
+        protected void remove(int index) {
+            throw new UnsupportedOperationException("snapshot iterator can not remove values");
+        }
+    }
+
+    private final C collection;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * true if the queries of the collection can run optimistically
+     */
+    private final boolean optimisticReads;
+
+    /**
+     * creates a concurrent collection, the decorated collection should not be used directly after this
+     *
+     * @param collection collection to decorate
+     */
+    public ConcurrentCollection(C collection) {
+        this.collection = collection;
+        this.optimisticReads = collection instanceof OptimisticReadable;
+    }
+
+    /**
+     * runs the query under the read lock
+     *
+     * @param query function that reads the collection
+     * @param <R>   type of the result
+     * @return result of the query
+     */
+    public <R> R read(Function<? super C, R> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.apply(collection);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * runs the command under the write lock
+     *
+     * @param command consumer that changes the collection
+     */
+    public void write(Consumer<? super C> command) {
+        long stamp = lock.writeLock();
+        try {
+            command.accept(collection);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(T value) {
+        write(c -> c.add(value));
+    }
+
+    @Override
+    public void addAll(T[] values) {
+        write(c -> c.addAll(values));
+    }
+
+    /**
+     * adds all the values under the write lock, adding this collection to itself adds the decorated collection,
+     * iterating this collection would wait for the lock held by the same thread
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        write(c -> c.addAll(values == this ? c : values));
+    }
+
+    @Override
+    public void remove(int index) {
+        write(c -> c.remove(index));
+    }
+
+    @Override
+    public void remove(T value) {
+        write(c -> c.remove(value));
+    }
+
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        write(c -> c.removeIf(filter));
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        write(c -> c.removeRange(fromIndex, toIndex));
+    }
+
+    @Override
+    public void clear() {
+        write(CCollection::clear);
+    }
+
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        return query(c -> c.getOrDefault(index, defaultValue));
+    }
+
+    @Override
+    public boolean isPresentAt(int index) {
+        return query(c -> c.isPresentAt(index));
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return query(c -> c.contains(value));
+    }
+
+    @Override
+    public int getSize() {
+        return query(QCollection::getSize);
+    }
+
+    /**
+     * returns an iterator of the values copied under the read lock
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns a sized spliterator of the values copied under the read lock
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * performs the action for each value under the read lock, writers wait until it is done
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        long stamp = lock.readLock();
+        try {
+            collection.forEach(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * copies the values under the read lock
+     *
+     * @return array of the values in iteration order
+     */
+    private Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            Object[] values = new Object[collection.getSize()];
+            Iterator<T> iterator = collection.iterator();
+            for (int i = 0; i < values.length && iterator.hasNext(); i++) {
+                values[i] = iterator.next();
+            }
+            return values;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * runs a query method of the collection optimistically and validates it if the collection is
+     * {@code OptimisticReadable}, runs it under the read lock otherwise or if a write interfered
+     *
+     * @param query query method of the collection
+     * @param <R>   type of the result
+     * @return result of the query
+     */
+    private <R> R query(Function<? super C, R> query) {
+        long stamp = optimisticReads ? lock.tryOptimisticRead() : 0L;
+        if (stamp != 0L) {
+            try {
+                R result = query.apply(collection);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // the collection was changed while it was read, a valid stamp means the query itself failed
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(query);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.fererlab.datastructure.collection;
+
+/**
+ * Marker interface of a collection whose queries can run while another thread changes it
+ * <p/>
+ * {@code getOrDefault}, {@code isPresentAt}, {@code contains} and {@code getSize} of such a collection
+ * only read its fields, end after a bounded number of steps even if the fields are torn, and fail only with
+ * a {@code RuntimeException}. {@code ConcurrentCollection} runs these queries without a lock and uses the result
+ * only if no write happened meanwhile, other collections are read under the read lock.
+ * A collection should implement this interface only after its queries are checked for these rules.
+ */
+public interface OptimisticReadable {
+}
@@ -17,6 +17,27 @@ public interface QCollection<T> {
      */
     Maybe<T> get(int index);
 
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    default T getOrDefault(int index, T defaultValue) {
+        return get(index).orElse(defaultValue);
+    }
+
+    /**
+     * find if there is a value at the index, same as {@code !get(index).isEmpty()} without creating a Maybe
+     *
+     * @param index int value position
+     * @return true if a value exists at index
+     */
+    default boolean isPresentAt(int index) {
+        return getOrDefault(index, null) != null;
+    }
+
     /**
      * find if value exists
      *
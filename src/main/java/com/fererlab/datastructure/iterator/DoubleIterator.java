@@ -0,0 +1,38 @@
+package com.fererlab.datastructure.iterator;
+
+/**
+ * Iterator of primitive double values, {@code next} returns a double so no value is boxed
+ */
+public abstract class DoubleIterator implements CIterator<Double> {
+
+    private int index = 0;
+
+    protected abstract int getSize();
+
+    protected abstract double get(int index);
+
+    protected abstract void remove(int index);
+
+    /**
+     * @return returns true if more elements available
+     */
+    public boolean hasNext() {
+        return index < getSize();
+    }
+
+    /**
+     * @return current element
+     */
+    public double next() {
+        double value = get(index);
+        index++;
+        return value;
+    }
+
+    @Override
+    public void remove() {
+        index--;
+        remove(index);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.fererlab.datastructure.iterator;
+
+/**
+ * Iterator of primitive int values, {@code next} returns an int so no value is boxed
+ */
+public abstract class IntIterator implements CIterator<Integer> {
+
+    private int index = 0;
+
+    protected abstract int getSize();
+
+    protected abstract int get(int index);
+
+    protected abstract void remove(int index);
+
+    /**
+     * @return returns true if more elements available
+     */
+    public boolean hasNext() {
+        return index < getSize();
+    }
+
+    /**
+     * @return current element
+     */
+    public int next() {
+        int value = get(index);
+        index++;
+        return value;
+    }
+
+    @Override
+    public void remove() {
+        index--;
+        remove(index);
+    }
+
+}
@@ -1,6 +1,10 @@
 package com.fererlab.datastructure.iterator;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * iteration interface for collections
@@ -26,4 +30,46 @@ public interface Iterable<T> {
         }
     }
 
+    /**
+     * returns a spliterator over the values, this default one wraps the iterator and has no size information,
+     * collections override it with a sized one that splits evenly
+     * <p/>
+     * the collection should not be modified while the spliterator is in use
+     *
+     * @return Spliterator
+     */
+    default Spliterator<T> spliterator() {
+        final Iterator<T> iterator = this.iterator();
+        return Spliterators.spliteratorUnknownSize(new java.util.Iterator<T>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        }, Spliterator.ORDERED);
+    }
+
+    /**
+     * returns a sequential stream of the values
+     *
+     * @return Stream
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * returns a parallel stream of the values
+     *
+     * @return Stream
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
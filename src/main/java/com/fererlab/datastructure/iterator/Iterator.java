@@ -1,14 +1,12 @@
 package com.fererlab.datastructure.iterator;
 
-import com.fererlab.datastructure.util.Maybe;
-
 public abstract class Iterator<T> implements CIterator<T>, QIterator<T> {
 
     private int index = 0;
 
     protected abstract int getSize();
 
-    protected abstract Maybe<T> get(int index);
+    protected abstract T get(int index);
 
     protected abstract void remove(int index);
 
@@ -18,7 +16,7 @@ public abstract class Iterator<T> implements CIterator<T>, QIterator<T> {
 
     @Override
     public T next() {
-        T value = get(index).get();
+        T value = get(index);
         index++;
         return value;
     }
@@ -0,0 +1,38 @@
+package com.fererlab.datastructure.iterator;
+
+/**
+ * Iterator of primitive long values, {@code next} returns a long so no value is boxed
+ */
+public abstract class LongIterator implements CIterator<Long> {
+
+    private int index = 0;
+
+    protected abstract int getSize();
+
+    protected abstract long get(int index);
+
+    protected abstract void remove(int index);
+
+    /**
+     * @return returns true if more elements available
+     */
+    public boolean hasNext() {
+        return index < getSize();
+    }
+
+    /**
+     * @return current element
+     */
+    public long next() {
+        long value = get(index);
+        index++;
+        return value;
+    }
+
+    @Override
+    public void remove() {
+        index--;
+        remove(index);
+    }
+
+}
@@ -1,18 +1,26 @@
 package com.fererlab.datastructure.list.array;
 
+import com.fererlab.datastructure.collection.OptimisticReadable;
+import com.fererlab.datastructure.collection.QCollection;
+import com.fererlab.datastructure.iterator.Iterable;
 import com.fererlab.datastructure.iterator.Iterator;
 import com.fererlab.datastructure.util.Maybe;
 
+import java.util.BitSet;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
  * final class ArrayList, implements Query and Command interfaces of ArrayList
  *
  * @param <T> generic type of the value
  */
-public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIterable<T> {
+public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIterable<T>, OptimisticReadable {
 
     private static final int INITIAL_CAPACITY = 10;
 
-    private int step;
+    private final CapacityPolicy capacityPolicy;
     private T[] objects;
     private int size = 0;
 
@@ -27,8 +35,8 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         }
 
         @Override
-        protected Maybe<T> get(int index) {
-            return ArrayList.this.get(index);
+        protected T get(int index) {
+            return ArrayList.this.getOrDefault(index, null);
         }
 
         @Override
@@ -53,8 +61,8 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         }
 
         @Override
-        protected Maybe<T> get(int currentIndex) {
-            return ArrayList.this.get(currentIndex);
+        protected T get(int currentIndex) {
+            return ArrayList.this.getOrDefault(currentIndex, null);
         }
 
         @Override
@@ -75,7 +83,7 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         @Override
         public T next() {
             index--;
-            return get(index).get();
+            return get(index);
         }
 
         @Override
@@ -84,24 +92,173 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         }
     }
 
+    /**
+     * internal spliterator class, splits the array range in halves
+     */
+    class InternalSpliterator implements Spliterator<T> {
+
+        private final T[] array;
+        private int index;
+        private final int fence;
+
+        InternalSpliterator(T[] array, int index, int fence) {
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index < fence) {
+                action.accept(array[index]);
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; index < fence; index++) {
+                action.accept(array[index]);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new InternalSpliterator(array, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * internal reverse spliterator class, goes from the end of the array range to its start and splits it in halves
+     */
+    class InternalReverseSpliterator implements Spliterator<T> {
+
+        private final T[] array;
+        private final int origin;
+        private int fence;
+
+        InternalReverseSpliterator(T[] array, int origin, int fence) {
+            this.array = array;
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (fence > origin) {
+                fence--;
+                action.accept(array[fence]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; fence > origin; fence--) {
+                action.accept(array[fence - 1]);
+            }
+        }
+
+        /**
+         * the upper half comes first in reverse order, so it is returned as the prefix
+         *
+         * @return spliterator of the upper half or null if the range can not be split
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (origin + fence) >>> 1;
+            if (middle <= origin) {
+                return null;
+            }
+            Spliterator<T> prefix = new InternalReverseSpliterator(array, middle, fence);
+            fence = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     public ArrayList() {
         this(INITIAL_CAPACITY);
     }
 
     public ArrayList(int initialCapacity) {
-        this.step = initialCapacity;
-        this.objects = createObjectArray(step);
+        this(initialCapacity, new GeometricCapacityPolicy(initialCapacity));
+    }
+
+    public ArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        this.capacityPolicy = capacityPolicy;
+        this.objects = createObjectArray(initialCapacity);
     }
 
     @Override
     public void add(T value) {
-        if (size >= objects.length - 1) {
-            expand();
+        if (size == objects.length) {
+            resize(capacityPolicy.grow(objects.length, size + 1));
         }
         objects[size] = value;
         size++;
     }
 
+    /**
+     * adds all the values with a single array copy, the array grows at most once
+     *
+     * @param values object values
+     */
+    @Override
+    public void addAll(T[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, objects, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * adds all the values, if the values is a collection the array grows at most once,
+     * adding the list to itself copies the current values once
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        if (values == this) {
+            ensureCapacity(size << 1);
+            System.arraycopy(objects, 0, objects, size, size);
+            size <<= 1;
+            return;
+        }
+        if (values instanceof QCollection) {
+            ensureCapacity(size + ((QCollection<?>) values).getSize());
+        }
+        values.forEach(this::add);
+    }
+
     @Override
     public void remove(int index) {
         if (index >= 0 && index <= size - 1) {
@@ -130,28 +287,88 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
             size--;
             // set the last duplicated reference to null
             objects[size] = null;
+            // release the unused part of the array if the policy says so
+            int capacity = capacityPolicy.shrink(objects.length, size);
+            if (capacity < objects.length) {
+                resize(capacity);
+            }
         }
     }
 
     @Override
     public void remove(T value) {
+        removeIf(object -> object.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter, the filter is tested for all the values first,
+     * so a filter that throws leaves the list unchanged, then the remaining values are compacted in a single pass
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        BitSet removed = null;
         for (int i = 0; i < size; i++) {
-            if (objects[i].equals(value)) {
-                remove(i);
-                break;
+            if (filter.test(objects[i])) {
+                if (removed == null) {
+                    removed = new BitSet(size);
+                }
+                removed.set(i);
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        int kept = removed.nextSetBit(0);
+        for (int i = kept + 1; i < size; i++) {
+            if (!removed.get(i)) {
+                objects[kept] = objects[i];
+                kept++;
             }
         }
+        truncate(kept);
+    }
+
+    /**
+     * removes the values in the range with a single array copy
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        if (fromIndex < toIndex) {
+            System.arraycopy(objects, toIndex, objects, fromIndex, size - toIndex);
+            truncate(size - (toIndex - fromIndex));
+        }
     }
 
     @Override
     public void clear() {
+        // keep the array, only drop the references, use trimToSize to release the memory
         for (int i = 0; i < size; i++) {
             objects[i] = null;
         }
-        objects = createObjectArray(step);
         size = 0;
     }
 
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > objects.length) {
+            resize(capacityPolicy.grow(objects.length, minimumCapacity));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (size < objects.length) {
+            resize(size);
+        }
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new InternalIterator();
@@ -162,6 +379,38 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         return new InternalReversIterator();
     }
 
+    /**
+     * returns a sized spliterator that splits the array in halves, the list should not be modified while it is in use
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new InternalSpliterator(objects, 0, size);
+    }
+
+    /**
+     * returns a sized spliterator that goes from the last value to the first and splits the array in halves,
+     * the list should not be modified while it is in use
+     *
+     * @return Spliterator in reverse order
+     */
+    public Spliterator<T> reverseSpliterator() {
+        return new InternalReverseSpliterator(objects, 0, size);
+    }
+
+    /**
+     * performs the action for each value, reads the array directly without an iterator
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(objects[i]);
+        }
+    }
+
     @Override
     public Maybe<T> get(int index) {
         Maybe<T> maybe = Maybe.empty();
@@ -172,11 +421,19 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         return maybe;
     }
 
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index >= 0 && index <= size - 1 && objects[index] != null) {
+            return objects[index];
+        }
+        return defaultValue;
+    }
+
     @Override
     public boolean contains(T value) {
         boolean contains = false;
-        for (Object object : objects) {
-            if (object.equals(value)) {
+        for (int i = 0; i < size; i++) {
+            if (objects[i].equals(value)) {
                 contains = true;
                 break;
             }
@@ -189,10 +446,31 @@ public final class ArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIt
         return size;
     }
 
-    private void expand() {
+    @Override
+    public int getCapacity() {
+        return objects.length;
+    }
+
+    /**
+     * sets the size, references after the new size are set to null and the array may shrink
+     *
+     * @param newSize new size, less than the current size
+     */
+    private void truncate(int newSize) {
+        for (int i = newSize; i < size; i++) {
+            objects[i] = null;
+        }
+        size = newSize;
+        int capacity = capacityPolicy.shrink(objects.length, size);
+        if (capacity < objects.length) {
+            resize(capacity);
+        }
+    }
+
+    private void resize(int capacity) {
         T[] temp = objects;
-        objects = createObjectArray(objects.length + step);
-        System.arraycopy(temp, 0, objects, 0, temp.length);
+        objects = createObjectArray(capacity);
+        System.arraycopy(temp, 0, objects, 0, size);
     }
 
     @SuppressWarnings("unchecked")
@@ -6,4 +6,17 @@ import com.fererlab.datastructure.collection.CCollection;
  * Command interface of array list
  */
 public interface CArrayList<T> extends CCollection<T> {
+
+    /**
+     * grows the internal array, if needed, so that it can hold at least the minimum capacity without growing again
+     *
+     * @param minimumCapacity desired minimum capacity
+     */
+    void ensureCapacity(int minimumCapacity);
+
+    /**
+     * shrinks the internal array to the current size
+     */
+    void trimToSize();
+
 }
@@ -0,0 +1,46 @@
+package com.fererlab.datastructure.list.array;
+
+/**
+ * Command interface of double array list
+ */
+public interface CDoubleArrayList {
+
+    /**
+     * adds value to the list
+     *
+     * @param value double value
+     */
+    void add(double value);
+
+    /**
+     * removes the value at the index
+     *
+     * @param index index of the value
+     */
+    void remove(int index);
+
+    /**
+     * remove all the values with matching value
+     *
+     * @param value double value
+     */
+    void removeValue(double value);
+
+    /**
+     * clears the list, sets size to 0
+     */
+    void clear();
+
+    /**
+     * grows the internal array, if needed, so that it can hold at least the minimum capacity without growing again
+     *
+     * @param minimumCapacity desired minimum capacity
+     */
+    void ensureCapacity(int minimumCapacity);
+
+    /**
+     * shrinks the internal array to the current size
+     */
+    void trimToSize();
+
+}
@@ -0,0 +1,28 @@
+package com.fererlab.datastructure.list.array;
+
+/**
+ * Capacity policy of array backed collections, decides the new length of the internal array
+ * when it is full or when most of it became unused
+ */
+public interface CapacityPolicy {
+
+    /**
+     * returns the new capacity when the internal array needs to grow
+     *
+     * @param capacity        current length of the internal array
+     * @param minimumCapacity capacity that is needed at least
+     * @return new capacity, greater than or equal to the minimum capacity
+     */
+    int grow(int capacity, int minimumCapacity);
+
+    /**
+     * returns the new capacity after a value is removed,
+     * returning the current capacity means no shrink is needed
+     *
+     * @param capacity current length of the internal array
+     * @param size     current number of values
+     * @return new capacity, greater than or equal to size
+     */
+    int shrink(int capacity, int size);
+
+}
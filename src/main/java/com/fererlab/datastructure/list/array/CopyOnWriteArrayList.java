@@ -0,0 +1,345 @@
+package com.fererlab.datastructure.list.array;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class CopyOnWriteArrayList, thread safe array list for read mostly access
+ * <p/>
+ * Values are kept in an array that is never modified after it is published through a volatile field.
+ * Readers read the field once and use that array without any lock, so {@code get}, {@code contains}
+ * and iteration never wait and never see a half done change.
+ * Every change copies the array under a lock, changes it and publishes the copy,
+ * use {@code mutate} to apply many changes with a single copy and a single publish.
+ * <p/>
+ * Iterators and spliterators work on the array at the time they are created, changes made after that
+ * are not seen and do not affect them, iterators can not remove values.
+ * <p/>
+ * The array always has the exact size of the list, so capacity is the size,
+ * {@code ensureCapacity} and {@code trimToSize} have nothing to do.
+ *
+ * @param <T> generic type of the value
+ */
+public final class CopyOnWriteArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIterable<T> {
+
+    /**
+     * internal iterator class, iterates the array at the time it was created
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private final T[] snapshot = objects;
+
+        @Override
+        protected int getSize() {
+            return snapshot.length;
+        }
+
+        @Override
+        protected T get(int index) {
+            return snapshot[index];
+        }
+
+        /**
+         * not supported, the iterator does not see the current list
+         *
+         * @param index int value index
+         */
+        @Override
+        protected void remove(int index) {
+            throw new UnsupportedOperationException("snapshot iterator can not remove values");
+        }
+    }
+
+    /**
+     * internal reverse iterator class, iterates the array at the time it was created from the end
+     */
+    class InternalReversIterator extends InternalIterator {
+
+        private int index = getSize();
+
+        @Override
+        public boolean hasNext() {
+            return index > 0;
+        }
+
+        @Override
+        public T next() {
+            index--;
+            return get(index);
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * published array, only replaced under the lock, never modified after publishing
+     */
+    private volatile T[] objects;
+
+    public CopyOnWriteArrayList() {
+        this.objects = createObjectArray(0);
+    }
+
+    /**
+     * adds the value to the end
+     *
+     * @param value generic type T
+     */
+    @Override
+    public void add(T value) {
+        lock.lock();
+        try {
+            T[] current = objects;
+            T[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = value;
+            objects = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * adds all the values with a single copy
+     *
+     * @param values object values
+     */
+    @Override
+    public void addAll(T[] values) {
+        lock.lock();
+        try {
+            T[] current = objects;
+            T[] copy = Arrays.copyOf(current, current.length + values.length);
+            System.arraycopy(values, 0, copy, current.length, values.length);
+            objects = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * adds all the values with a single copy
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        mutate(list -> list.addAll(values));
+    }
+
+    /**
+     * removes the value at the index
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        removeRange(index, index + 1);
+    }
+
+    /**
+     * removes all the matching values with a single copy
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        removeIf(object -> object != null && object.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter, the array is copied only if a value is removed
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        lock.lock();
+        try {
+            T[] current = objects;
+            T[] kept = createObjectArray(current.length);
+            int size = 0;
+            for (T object : current) {
+                if (!filter.test(object)) {
+                    kept[size] = object;
+                    size++;
+                }
+            }
+            if (size < current.length) {
+                objects = Arrays.copyOf(kept, size);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes the values in the range with a single copy
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            T[] current = objects;
+            fromIndex = Math.max(fromIndex, 0);
+            toIndex = Math.min(toIndex, current.length);
+            if (fromIndex < toIndex) {
+                T[] copy = createObjectArray(current.length - (toIndex - fromIndex));
+                System.arraycopy(current, 0, copy, 0, fromIndex);
+                System.arraycopy(current, toIndex, copy, fromIndex, current.length - toIndex);
+                objects = copy;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            objects = createObjectArray(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * applies all the changes to a single copy of the array and publishes it once,
+     * readers see either none or all of the changes, other writers wait until the changes are published
+     *
+     * @param changes changes to apply to the copy, should not keep a reference to it
+     */
+    public void mutate(Consumer<? super CArrayList<T>> changes) {
+        lock.lock();
+        try {
+            T[] current = objects;
+            ArrayList<T> copy = new ArrayList<>(current.length + 1);
+            copy.addAll(current);
+            changes.accept(copy);
+            T[] published = createObjectArray(copy.getSize());
+            for (int i = 0; i < published.length; i++) {
+                published[i] = copy.getOrDefault(i, null);
+            }
+            objects = published;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * nothing to do, the array always has the exact size of the list
+     *
+     * @param minimumCapacity desired minimum capacity
+     */
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+    }
+
+    /**
+     * nothing to do, the array always has the exact size of the list
+     */
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    @Override
+    public Iterator<T> reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * returns a sized spliterator of the current array, the list may be modified while it is in use
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(objects, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * performs the action for each value of the current array
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (T object : objects) {
+            action.accept(object);
+        }
+    }
+
+    /**
+     * returns the value at the index, does not wait for the writers
+     *
+     * @param index int value position
+     * @return Maybe of value at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it, does not wait for the writers
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        T[] current = objects;
+        if (index >= 0 && index < current.length && current[index] != null) {
+            return current[index];
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        for (T object : objects) {
+            if (object != null && object.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getSize() {
+        return objects.length;
+    }
+
+    /**
+     * returns the length of the internal array, always the same as the size
+     *
+     * @return int capacity of the list
+     */
+    @Override
+    public int getCapacity() {
+        return objects.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
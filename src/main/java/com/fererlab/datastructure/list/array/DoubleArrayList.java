@@ -0,0 +1,232 @@
+package com.fererlab.datastructure.list.array;
+
+import com.fererlab.datastructure.iterator.DoubleIterator;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * final class DoubleArrayList, array list of primitive double values,
+ * values are kept in a {@code double[]} so neither adding nor reading a value creates a wrapper object
+ */
+public final class DoubleArrayList implements QDoubleArrayList, CDoubleArrayList {
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    private final CapacityPolicy capacityPolicy;
+    private double[] values;
+    private int size = 0;
+
+    /**
+     * internal iterator class
+     */
+    class InternalIterator extends DoubleIterator {
+
+        @Override
+        protected int getSize() {
+            return DoubleArrayList.this.getSize();
+        }
+
+        @Override
+        protected double get(int index) {
+            return DoubleArrayList.this.get(index);
+        }
+
+        @Override
+        protected void remove(int index) {
+            DoubleArrayList.this.remove(index);
+        }
+    }
+
+    /**
+     * internal reverse iterator class
+     */
+    class InternalReversIterator extends DoubleIterator {
+
+        /**
+         * index will start from size
+         */
+        private int index = getSize();
+
+        @Override
+        protected int getSize() {
+            return DoubleArrayList.this.getSize();
+        }
+
+        @Override
+        protected double get(int currentIndex) {
+            return DoubleArrayList.this.get(currentIndex);
+        }
+
+        @Override
+        protected void remove(int currentIndex) {
+            DoubleArrayList.this.remove(currentIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index > 0;
+        }
+
+        @Override
+        public double next() {
+            index--;
+            return get(index);
+        }
+
+        @Override
+        public void remove() {
+            remove(index);
+        }
+    }
+
+    public DoubleArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public DoubleArrayList(int initialCapacity) {
+        this(initialCapacity, new GeometricCapacityPolicy(initialCapacity));
+    }
+
+    public DoubleArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        this.capacityPolicy = capacityPolicy;
+        this.values = new double[initialCapacity];
+    }
+
+    @Override
+    public void add(double value) {
+        if (size == values.length) {
+            resize(capacityPolicy.grow(values.length, size + 1));
+        }
+        values[size] = value;
+        size++;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index >= 0 && index <= size - 1) {
+            int numberOfElementsToMove = size - index - 1;
+            if (numberOfElementsToMove > 0) {
+                System.arraycopy(values, index + 1, values, index, numberOfElementsToMove);
+            }
+            size--;
+            shrink();
+        }
+    }
+
+    /**
+     * removes all the matching values, remaining values are compacted in a single pass
+     *
+     * @param value double value
+     */
+    @Override
+    public void removeValue(double value) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(values[i]) != Double.doubleToLongBits(value)) {
+                values[kept] = values[i];
+                kept++;
+            }
+        }
+        if (kept < size) {
+            size = kept;
+            shrink();
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > values.length) {
+            resize(capacityPolicy.grow(values.length, minimumCapacity));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (size < values.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * returns an iterator that iterates from the first to the last value
+     *
+     * @return DoubleIterator
+     */
+    public DoubleIterator iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns an iterator that iterates through values in reverse order
+     *
+     * @return DoubleIterator
+     */
+    public DoubleIterator reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * performs the action for each value, from the first to the last
+     *
+     * @param action DoubleConsumer action
+     */
+    public void forEach(DoubleConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    @Override
+    public double getOrDefault(int index, double defaultValue) {
+        return index >= 0 && index < size ? values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean contains(double value) {
+        boolean contains = false;
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(values[i]) == Double.doubleToLongBits(value)) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+
+    private void shrink() {
+        int capacity = capacityPolicy.shrink(values.length, size);
+        if (capacity < values.length) {
+            resize(capacity);
+        }
+    }
+
+    private void resize(int capacity) {
+        double[] temp = values;
+        values = new double[capacity];
+        System.arraycopy(temp, 0, values, 0, size);
+    }
+
+}
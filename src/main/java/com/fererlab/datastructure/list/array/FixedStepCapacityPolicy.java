@@ -0,0 +1,37 @@
+package com.fererlab.datastructure.list.array;
+
+/**
+ * final class FixedStepCapacityPolicy, grows the capacity by a constant step and never shrinks,
+ * appending n values costs O(n^2) copying, use it only when the final size is known to be small
+ */
+public final class FixedStepCapacityPolicy implements CapacityPolicy {
+
+    private final int step;
+
+    /**
+     * creates a policy
+     *
+     * @param step number of slots added on each grow, must be greater than 0
+     */
+    public FixedStepCapacityPolicy(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step should be greater than 0, step: " + step);
+        }
+        this.step = step;
+    }
+
+    @Override
+    public int grow(int capacity, int minimumCapacity) {
+        long newCapacity = Math.max(capacity + (long) step, minimumCapacity);
+        if (newCapacity > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("required capacity is too large, minimumCapacity: " + minimumCapacity);
+        }
+        return (int) newCapacity;
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        return capacity;
+    }
+
+}
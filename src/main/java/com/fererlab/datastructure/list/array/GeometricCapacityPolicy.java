@@ -0,0 +1,82 @@
+package com.fererlab.datastructure.list.array;
+
+/**
+ * final class GeometricCapacityPolicy, grows the capacity by a factor so that appending n values
+ * costs amortised O(1) copying per value
+ * <p/>
+ * shrinking uses hysteresis, the capacity is halved only when the size falls to the shrink threshold
+ * (a quarter by default), so that a list oscillating around a boundary does not grow and shrink on every call
+ * <p/>
+ * <code>
+ * <pre>
+ * capacity 16, size 4  -> shrink to 8
+ * capacity 8,  size 4  -> no shrink, half full
+ * capacity 8,  size 8  -> grow to 12 on next add
+ * </pre>
+ * </code>
+ */
+public final class GeometricCapacityPolicy implements CapacityPolicy {
+
+    /**
+     * some VMs reserve header words in an array
+     */
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final double DEFAULT_GROWTH_FACTOR = 1.5;
+
+    private static final double DEFAULT_SHRINK_THRESHOLD = 0.25;
+
+    private final double growthFactor;
+
+    private final double shrinkThreshold;
+
+    private final int minimumCapacity;
+
+    /**
+     * creates a policy growing 1.5x and shrinking to half at quarter usage, never below the minimum capacity
+     *
+     * @param minimumCapacity the capacity will not shrink below this value
+     */
+    public GeometricCapacityPolicy(int minimumCapacity) {
+        this(DEFAULT_GROWTH_FACTOR, DEFAULT_SHRINK_THRESHOLD, minimumCapacity);
+    }
+
+    /**
+     * creates a policy
+     *
+     * @param growthFactor    multiplier of the capacity on grow, must be greater than 1
+     * @param shrinkThreshold ratio of size to capacity below which the capacity is halved,
+     *                        must be less than 0.5, 0 disables shrinking
+     * @param minimumCapacity the capacity will not shrink below this value
+     */
+    public GeometricCapacityPolicy(double growthFactor, double shrinkThreshold, int minimumCapacity) {
+        if (growthFactor <= 1) {
+            throw new IllegalArgumentException("growth factor should be greater than 1, growthFactor: " + growthFactor);
+        }
+        if (shrinkThreshold < 0 || shrinkThreshold >= 0.5) {
+            throw new IllegalArgumentException("shrink threshold should be in [0, 0.5), shrinkThreshold: " + shrinkThreshold);
+        }
+        this.growthFactor = growthFactor;
+        this.shrinkThreshold = shrinkThreshold;
+        this.minimumCapacity = Math.max(minimumCapacity, 1);
+    }
+
+    @Override
+    public int grow(int capacity, int minimumCapacity) {
+        if (minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new OutOfMemoryError("required capacity is too large, minimumCapacity: " + minimumCapacity);
+        }
+        long grown = (long) (capacity * growthFactor);
+        long newCapacity = Math.max(Math.max(grown, capacity + 1L), Math.max(minimumCapacity, this.minimumCapacity));
+        return (int) Math.min(newCapacity, MAXIMUM_CAPACITY);
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        if (capacity <= minimumCapacity || size > capacity * shrinkThreshold) {
+            return capacity;
+        }
+        return Math.max(capacity >> 1, minimumCapacity);
+    }
+
+}
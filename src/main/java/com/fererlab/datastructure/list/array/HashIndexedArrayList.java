@@ -0,0 +1,487 @@
+package com.fererlab.datastructure.list.array;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.map.HashMap;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class HashIndexedArrayList, array list with a hash index from values to their positions
+ * <p/>
+ * {@code contains} is a single hash lookup and {@code remove(T)} finds the positions of the value
+ * in the index instead of scanning the list, values keep their insertion order and are accessed by index.
+ * <p/>
+ * A removed value leaves a hole in the array, so the positions of the other values and their index entries
+ * do not change. A Fenwick tree counts the values before each slot, so the slot of an index is found in
+ * O(log n) skipping the holes. Holes are squeezed out when the array is full, or by {@code trimToSize}.
+ * <p/>
+ * <code>
+ * <pre>
+ * add a, b, c, d, remove b
+ * slots   [a]-[ ]-[c]-[d]-*-*
+ * index    0       1   2
+ * a -> {0}, c -> {2}, d -> {3}
+ * </pre>
+ * </code>
+ * <p/>
+ * Null values are not allowed, they can not be indexed.
+ *
+ * @param <T> generic type of the value
+ */
+public final class HashIndexedArrayList<T> implements QArrayList<T>, CArrayList<T>, ArrayIterable<T> {
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    /**
+     * internal iterator class, walks the slots and skips the holes
+     */
+    class InternalIterator extends Iterator<T> {
+
+        /**
+         * slot of the value returned by the last next call, -1 after remove
+         */
+        private int lastReturned = -1;
+        private int nextSlot;
+
+        InternalIterator() {
+            this.nextSlot = nextOccupied(0);
+        }
+
+        @Override
+        protected int getSize() {
+            return HashIndexedArrayList.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return HashIndexedArrayList.this.getOrDefault(index, null);
+        }
+
+        @Override
+        protected void remove(int index) {
+            HashIndexedArrayList.this.remove(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < end;
+        }
+
+        @Override
+        public T next() {
+            lastReturned = nextSlot;
+            nextSlot = nextOccupied(nextSlot + 1);
+            return objects[lastReturned];
+        }
+
+        /**
+         * removes the value returned by the last next call, leaves a hole so the cursor stays valid
+         */
+        @Override
+        public void remove() {
+            if (lastReturned >= 0) {
+                removeSlot(lastReturned);
+                lastReturned = -1;
+            }
+        }
+    }
+
+    /**
+     * internal reverse iterator class, walks the slots from the end and skips the holes
+     */
+    class InternalReversIterator extends Iterator<T> {
+
+        private int lastReturned = -1;
+        private int nextSlot = previousOccupied(end - 1);
+
+        @Override
+        protected int getSize() {
+            return HashIndexedArrayList.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return HashIndexedArrayList.this.getOrDefault(index, null);
+        }
+
+        @Override
+        protected void remove(int index) {
+            HashIndexedArrayList.this.remove(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot >= 0;
+        }
+
+        @Override
+        public T next() {
+            lastReturned = nextSlot;
+            nextSlot = previousOccupied(nextSlot - 1);
+            return objects[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned >= 0) {
+                removeSlot(lastReturned);
+                lastReturned = -1;
+            }
+        }
+    }
+
+    /**
+     * slots of the values, null is a hole
+     */
+    private T[] objects;
+
+    /**
+     * Fenwick tree of the occupied slots, one longer than the array
+     */
+    private int[] counts;
+
+    /**
+     * slots of each value
+     */
+    private final HashMap<T, IntArrayList> positions = new HashMap<>();
+
+    /**
+     * number of slots used, holes included
+     */
+    private int end = 0;
+
+    private int size = 0;
+
+    public HashIndexedArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public HashIndexedArrayList(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.objects = createObjectArray(capacity);
+        this.counts = new int[capacity + 1];
+    }
+
+    /**
+     * adds value to the end, squeezes the holes or grows the array when it is full
+     *
+     * @param value generic type T, not null
+     */
+    @Override
+    public void add(T value) {
+        if (value == null) {
+            throw new NullPointerException("null values can not be indexed");
+        }
+        if (end == objects.length) {
+            // squeeze if more than a quarter of the slots are holes, otherwise grow
+            resize(end - size > (end >> 2) ? objects.length : objects.length + (objects.length >> 1) + 1);
+        }
+        objects[end] = value;
+        addCount(end, 1);
+        addPosition(value, end);
+        end++;
+        size++;
+    }
+
+    /**
+     * adds all the values to the end, adding the list to itself copies the current values once
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        if (values == this) {
+            // adding may squeeze the holes and move the slots, copy the values first
+            T[] current = createObjectArray(size);
+            int index = 0;
+            for (int slot = 0; slot < end; slot++) {
+                if (objects[slot] != null) {
+                    current[index] = objects[slot];
+                    index++;
+                }
+            }
+            addAll(current);
+            return;
+        }
+        values.forEach(this::add);
+    }
+
+    /**
+     * removes the value at the index, finds its slot in O(log n)
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        if (index >= 0 && index < size) {
+            removeSlot(slotOf(index));
+        }
+    }
+
+    /**
+     * removes all the matching values, their slots are found in the index
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        IntArrayList slots = positions.getOrDefault(value, null);
+        if (slots != null) {
+            positions.remove(value);
+            for (int i = 0; i < slots.getSize(); i++) {
+                int slot = slots.get(i);
+                objects[slot] = null;
+                addCount(slot, -1);
+            }
+            size -= slots.getSize();
+        }
+    }
+
+    /**
+     * removes all the values matching the filter, the filter is tested for all the values first,
+     * so a filter that throws leaves the list unchanged, then the remaining values are compacted in a single pass
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        BitSet removed = null;
+        for (int slot = 0; slot < end; slot++) {
+            if (objects[slot] != null && filter.test(objects[slot])) {
+                if (removed == null) {
+                    removed = new BitSet(end);
+                }
+                removed.set(slot);
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        for (int slot = removed.nextSetBit(0); slot >= 0; slot = removed.nextSetBit(slot + 1)) {
+            objects[slot] = null;
+            size--;
+        }
+        resize(objects.length);
+    }
+
+    /**
+     * removes the values in the range
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        int slot = slotOf(fromIndex);
+        for (int removed = toIndex - fromIndex; removed > 0; slot++) {
+            if (objects[slot] != null) {
+                removeSlot(slot);
+                removed--;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(objects, 0, end, null);
+        Arrays.fill(counts, 0);
+        positions.clear();
+        end = size = 0;
+    }
+
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > objects.length) {
+            resize(minimumCapacity);
+        }
+    }
+
+    /**
+     * squeezes the holes and shrinks the array to the current size
+     */
+    @Override
+    public void trimToSize() {
+        resize(Math.max(size, 1));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    @Override
+    public Iterator<T> reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * performs the action for each value, reads the array directly and skips the holes
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int slot = 0; slot < end; slot++) {
+            if (objects[slot] != null) {
+                action.accept(objects[slot]);
+            }
+        }
+    }
+
+    /**
+     * returns the value at the index in O(log n)
+     *
+     * @param index int value position
+     * @return Maybe of value at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index >= 0 && index < size) {
+            return objects[slotOf(index)];
+        }
+        return defaultValue;
+    }
+
+    /**
+     * find if value exists with a single hash lookup
+     *
+     * @param value value to search
+     * @return true if any value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        return positions.containsKey(value);
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getCapacity() {
+        return objects.length;
+    }
+
+    /**
+     * removes the value at the slot and its index entry, leaves a hole
+     *
+     * @param slot occupied slot
+     */
+    private void removeSlot(int slot) {
+        T value = objects[slot];
+        IntArrayList slots = positions.getOrDefault(value, null);
+        slots.removeValue(slot);
+        if (slots.getSize() == 0) {
+            positions.remove(value);
+        }
+        objects[slot] = null;
+        addCount(slot, -1);
+        size--;
+    }
+
+    /**
+     * adds the slot to the index entry of the value
+     *
+     * @param value generic type T
+     * @param slot  slot of the value
+     */
+    private void addPosition(T value, int slot) {
+        IntArrayList slots = positions.getOrDefault(value, null);
+        if (slots == null) {
+            slots = new IntArrayList(1);
+            positions.put(value, slots);
+        }
+        slots.add(slot);
+    }
+
+    /**
+     * finds the slot of the index, descends the Fenwick tree
+     *
+     * @param index int value position, within the list
+     * @return slot of the value
+     */
+    private int slotOf(int index) {
+        int slot = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(objects.length); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next <= objects.length && counts[next] <= remaining) {
+                slot = next;
+                remaining -= counts[next];
+            }
+        }
+        return slot;
+    }
+
+    private void addCount(int slot, int delta) {
+        for (int i = slot + 1; i < counts.length; i += i & -i) {
+            counts[i] += delta;
+        }
+    }
+
+    private int nextOccupied(int slot) {
+        while (slot < end && objects[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private int previousOccupied(int slot) {
+        while (slot >= 0 && objects[slot] == null) {
+            slot--;
+        }
+        return slot;
+    }
+
+    /**
+     * copies the values without holes to a new array and rebuilds the index and the tree
+     *
+     * @param capacity new capacity, at least the size
+     */
+    private void resize(int capacity) {
+        T[] temp = objects;
+        int used = end;
+        objects = createObjectArray(capacity);
+        counts = new int[capacity + 1];
+        positions.clear();
+        end = 0;
+        for (int slot = 0; slot < used; slot++) {
+            T value = temp[slot];
+            if (value != null) {
+                objects[end] = value;
+                counts[end + 1] = 1;
+                addPosition(value, end);
+                end++;
+            }
+        }
+        // build the tree in place, each node adds its count to its parent
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                counts[parent] += counts[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.fererlab.datastructure.list.array;
+
+import com.fererlab.datastructure.iterator.IntIterator;
+
+import java.util.function.IntConsumer;
+
+/**
+ * final class IntArrayList, array list of primitive int values,
+ * values are kept in an {@code int[]} so neither adding nor reading a value creates a wrapper object
+ */
+public final class IntArrayList implements QIntArrayList, CIntArrayList {
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    private final CapacityPolicy capacityPolicy;
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * internal iterator class
+     */
+    class InternalIterator extends IntIterator {
+
+        @Override
+        protected int getSize() {
+            return IntArrayList.this.getSize();
+        }
+
+        @Override
+        protected int get(int index) {
+            return IntArrayList.this.get(index);
+        }
+
+        @Override
+        protected void remove(int index) {
+            IntArrayList.this.remove(index);
+        }
+    }
+
+    /**
+     * internal reverse iterator class
+     */
+    class InternalReversIterator extends IntIterator {
+
+        /**
+         * index will start from size
+         */
+        private int index = getSize();
+
+        @Override
+        protected int getSize() {
+            return IntArrayList.this.getSize();
+        }
+
+        @Override
+        protected int get(int currentIndex) {
+            return IntArrayList.this.get(currentIndex);
+        }
+
+        @Override
+        protected void remove(int currentIndex) {
+            IntArrayList.this.remove(currentIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index > 0;
+        }
+
+        @Override
+        public int next() {
+            index--;
+            return get(index);
+        }
+
+        @Override
+        public void remove() {
+            remove(index);
+        }
+    }
+
+    public IntArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this(initialCapacity, new GeometricCapacityPolicy(initialCapacity));
+    }
+
+    public IntArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        this.capacityPolicy = capacityPolicy;
+        this.values = new int[initialCapacity];
+    }
+
+    @Override
+    public void add(int value) {
+        if (size == values.length) {
+            resize(capacityPolicy.grow(values.length, size + 1));
+        }
+        values[size] = value;
+        size++;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index >= 0 && index <= size - 1) {
+            int numberOfElementsToMove = size - index - 1;
+            if (numberOfElementsToMove > 0) {
+                System.arraycopy(values, index + 1, values, index, numberOfElementsToMove);
+            }
+            size--;
+            shrink();
+        }
+    }
+
+    /**
+     * removes all the matching values, remaining values are compacted in a single pass
+     *
+     * @param value int value
+     */
+    @Override
+    public void removeValue(int value) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != value) {
+                values[kept] = values[i];
+                kept++;
+            }
+        }
+        if (kept < size) {
+            size = kept;
+            shrink();
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > values.length) {
+            resize(capacityPolicy.grow(values.length, minimumCapacity));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (size < values.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * returns an iterator that iterates from the first to the last value
+     *
+     * @return IntIterator
+     */
+    public IntIterator iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns an iterator that iterates through values in reverse order
+     *
+     * @return IntIterator
+     */
+    public IntIterator reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * performs the action for each value, from the first to the last
+     *
+     * @param action IntConsumer action
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    @Override
+    public int getOrDefault(int index, int defaultValue) {
+        return index >= 0 && index < size ? values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        boolean contains = false;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+
+    private void shrink() {
+        int capacity = capacityPolicy.shrink(values.length, size);
+        if (capacity < values.length) {
+            resize(capacity);
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] temp = values;
+        values = new int[capacity];
+        System.arraycopy(temp, 0, values, 0, size);
+    }
+
+}
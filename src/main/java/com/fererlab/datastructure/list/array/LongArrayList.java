@@ -0,0 +1,232 @@
+package com.fererlab.datastructure.list.array;
+
+import com.fererlab.datastructure.iterator.LongIterator;
+
+import java.util.function.LongConsumer;
+
+/**
+ * final class LongArrayList, array list of primitive long values,
+ * values are kept in a {@code long[]} so neither adding nor reading a value creates a wrapper object
+ */
+public final class LongArrayList implements QLongArrayList, CLongArrayList {
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    private final CapacityPolicy capacityPolicy;
+    private long[] values;
+    private int size = 0;
+
+    /**
+     * internal iterator class
+     */
+    class InternalIterator extends LongIterator {
+
+        @Override
+        protected int getSize() {
+            return LongArrayList.this.getSize();
+        }
+
+        @Override
+        protected long get(int index) {
+            return LongArrayList.this.get(index);
+        }
+
+        @Override
+        protected void remove(int index) {
+            LongArrayList.this.remove(index);
+        }
+    }
+
+    /**
+     * internal reverse iterator class
+     */
+    class InternalReversIterator extends LongIterator {
+
+        /**
+         * index will start from size
+         */
+        private int index = getSize();
+
+        @Override
+        protected int getSize() {
+            return LongArrayList.this.getSize();
+        }
+
+        @Override
+        protected long get(int currentIndex) {
+            return LongArrayList.this.get(currentIndex);
+        }
+
+        @Override
+        protected void remove(int currentIndex) {
+            LongArrayList.this.remove(currentIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index > 0;
+        }
+
+        @Override
+        public long next() {
+            index--;
+            return get(index);
+        }
+
+        @Override
+        public void remove() {
+            remove(index);
+        }
+    }
+
+    public LongArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        this(initialCapacity, new GeometricCapacityPolicy(initialCapacity));
+    }
+
+    public LongArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        this.capacityPolicy = capacityPolicy;
+        this.values = new long[initialCapacity];
+    }
+
+    @Override
+    public void add(long value) {
+        if (size == values.length) {
+            resize(capacityPolicy.grow(values.length, size + 1));
+        }
+        values[size] = value;
+        size++;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index >= 0 && index <= size - 1) {
+            int numberOfElementsToMove = size - index - 1;
+            if (numberOfElementsToMove > 0) {
+                System.arraycopy(values, index + 1, values, index, numberOfElementsToMove);
+            }
+            size--;
+            shrink();
+        }
+    }
+
+    /**
+     * removes all the matching values, remaining values are compacted in a single pass
+     *
+     * @param value long value
+     */
+    @Override
+    public void removeValue(long value) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != value) {
+                values[kept] = values[i];
+                kept++;
+            }
+        }
+        if (kept < size) {
+            size = kept;
+            shrink();
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > values.length) {
+            resize(capacityPolicy.grow(values.length, minimumCapacity));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (size < values.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * returns an iterator that iterates from the first to the last value
+     *
+     * @return LongIterator
+     */
+    public LongIterator iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns an iterator that iterates through values in reverse order
+     *
+     * @return LongIterator
+     */
+    public LongIterator reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * performs the action for each value, from the first to the last
+     *
+     * @param action LongConsumer action
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    @Override
+    public long getOrDefault(int index, long defaultValue) {
+        return index >= 0 && index < size ? values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean contains(long value) {
+        boolean contains = false;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+
+    private void shrink() {
+        int capacity = capacityPolicy.shrink(values.length, size);
+        if (capacity < values.length) {
+            resize(capacity);
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] temp = values;
+        values = new long[capacity];
+        System.arraycopy(temp, 0, values, 0, size);
+    }
+
+}
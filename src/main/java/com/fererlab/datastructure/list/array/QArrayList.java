@@ -6,4 +6,12 @@ import com.fererlab.datastructure.collection.QCollection;
  * Query interface of array list
  */
 public interface QArrayList<T> extends QCollection<T> {
+
+    /**
+     * returns the length of the internal array
+     *
+     * @return int capacity of the list
+     */
+    int getCapacity();
+
 }
@@ -0,0 +1,48 @@
+package com.fererlab.datastructure.list.array;
+
+/**
+ * Query interface of long array list
+ */
+public interface QLongArrayList {
+
+    /**
+     * returns the value at the index
+     *
+     * @param index int value position
+     * @return value at index
+     * @throws IndexOutOfBoundsException if the index is not within the list
+     */
+    long get(int index);
+
+    /**
+     * returns the value at the index or the default value if the index is not within the list
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    long getOrDefault(int index, long defaultValue);
+
+    /**
+     * find if value exists
+     *
+     * @param value value to search
+     * @return true if any value exists
+     */
+    boolean contains(long value);
+
+    /**
+     * returns the size of the list
+     *
+     * @return int size of the list
+     */
+    int getSize();
+
+    /**
+     * returns the length of the internal array
+     *
+     * @return int capacity of the list
+     */
+    int getCapacity();
+
+}
@@ -0,0 +1,599 @@
+package com.fererlab.datastructure.list.linked;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.node.QNode;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class IndexLinkedList, implements Query and Command interfaces of LinkedList
+ * without node objects
+ * <p/>
+ * Values and links are kept in parallel arrays, a value's slot in the arrays is its handle,
+ * {@code next[handle]} and {@code previous[handle]} are the handles of its neighbours.
+ * Removed slots are chained into a free list through the {@code next} array and reused by the next add,
+ * so once the arrays are large enough adding and removing values creates no garbage.
+ * <p/>
+ * <code>
+ * <pre>
+ * add a, add b, add c, remove b
+ * handle      0   1   2
+ * values     [a]-[*]-[c]
+ * next       -1  -1   0     head 2, tail 0
+ * previous    2  F   -1     free 1
+ * </pre>
+ * </code>
+ * <p/>
+ * As in {@code LinkedList}, {@code add} inserts to the head, index 0 is the last added value.
+ * The handle of the added value is {@code getHeadHandle()} right after {@code add},
+ * and {@code getNextHandle(handle)} or {@code getPreviousHandle(handle)} right after
+ * {@code addAfter(handle, value)} or {@code addBefore(handle, value)}.
+ * A handle is stable until its value is removed, after that the slot may be reused by another value.
+ * <p/>
+ * {@code getHead} and {@code getTail} return read only views of a handle, views are not valid after the value is removed.
+ *
+ * @param <T> generic type of the value
+ */
+public final class IndexLinkedList<T> implements QLinkedList<T>, CLinkedList<T>, LinkedIterable<T> {
+
+    /**
+     * handle value meaning there is no such value
+     */
+    public static final int NO_HANDLE = -1;
+
+    /**
+     * marks a slot in the free list, stored in the previous array
+     */
+    private static final int FREE = -2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * read only view of a handle, implements {@code QNode} so that the list can be walked as a {@code QLinkedList}
+     */
+    private final class HandleNode implements QNode<T> {
+
+        private final int handle;
+
+        private HandleNode(int handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public T getValue() {
+            return values[handle];
+        }
+
+        @Override
+        public QNode<T> getPrevious() {
+            return nodeOf(previous[handle]);
+        }
+
+        @Override
+        public QNode<T> getNext() {
+            return nodeOf(next[handle]);
+        }
+    }
+
+    /**
+     * internal iterator class, keeps a cursor on the next handle
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private int nextHandle;
+        private int lastReturned = NO_HANDLE;
+
+        InternalIterator() {
+            this(head);
+        }
+
+        InternalIterator(int startHandle) {
+            this.nextHandle = startHandle;
+        }
+
+        @Override
+        protected int getSize() {
+            return IndexLinkedList.this.getSize();
+        }
+
+        @Override
+        protected T get(int currentIndex) {
+            return IndexLinkedList.this.getOrDefault(currentIndex, null);
+        }
+
+        @Override
+        protected void remove(int currentIndex) {
+            IndexLinkedList.this.remove(currentIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextHandle != NO_HANDLE;
+        }
+
+        @Override
+        public T next() {
+            lastReturned = nextHandle;
+            nextHandle = advance(nextHandle);
+            return values[lastReturned];
+        }
+
+        /**
+         * removes the value returned by the last next call, O(1)
+         */
+        @Override
+        public void remove() {
+            if (lastReturned != NO_HANDLE) {
+                unlink(lastReturned);
+                lastReturned = NO_HANDLE;
+            }
+        }
+
+        /**
+         * returns the handle after the current one in iteration order
+         *
+         * @param handle current handle
+         * @return next handle
+         */
+        protected int advance(int handle) {
+            return next[handle];
+        }
+    }
+
+    /**
+     * internal reverse iterator class, starts from tail and follows previous links
+     */
+    class InternalReversIterator extends InternalIterator {
+
+        InternalReversIterator() {
+            super(tail);
+        }
+
+        @Override
+        protected int advance(int handle) {
+            return previous[handle];
+        }
+    }
+
+    private T[] values;
+    private int[] next;
+    private int[] previous;
+
+    /**
+     * handle of the last inserted value
+     */
+    private int head = NO_HANDLE;
+
+    /**
+     * handle of the first inserted value
+     */
+    private int tail = NO_HANDLE;
+
+    /**
+     * first slot of the free list
+     */
+    private int free = NO_HANDLE;
+
+    /**
+     * number of slots ever used, slots after this are not in the free list yet
+     */
+    private int used = 0;
+
+    /**
+     * current size of the list
+     */
+    private int size = 0;
+
+    public IndexLinkedList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * creates a list
+     *
+     * @param initialCapacity number of slots to allocate, the list grows without garbage up to this size
+     */
+    public IndexLinkedList(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.values = createObjectArray(capacity);
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+    }
+
+    /**
+     * adds value to the head of the list, its handle is {@code getHeadHandle()}
+     *
+     * @param value generic type T
+     */
+    @Override
+    public void add(T value) {
+        int handle = allocate(value);
+        link(handle, NO_HANDLE, head);
+    }
+
+    /**
+     * adds the value after the handle, towards tail, its handle is {@code getNextHandle(handle)}
+     *
+     * @param handle handle of an existing value
+     * @param value  generic type T
+     */
+    public void addAfter(int handle, T value) {
+        checkHandle(handle);
+        int newHandle = allocate(value);
+        link(newHandle, handle, next[handle]);
+    }
+
+    /**
+     * adds the value before the handle, towards head, its handle is {@code getPreviousHandle(handle)}
+     *
+     * @param handle handle of an existing value
+     * @param value  generic type T
+     */
+    public void addBefore(int handle, T value) {
+        checkHandle(handle);
+        int newHandle = allocate(value);
+        link(newHandle, previous[handle], handle);
+    }
+
+    /**
+     * removes the value of the handle in O(1), the slot is recycled
+     *
+     * @param handle handle of an existing value
+     */
+    public void unlink(int handle) {
+        checkHandle(handle);
+        int previousHandle = previous[handle];
+        int nextHandle = next[handle];
+        if (previousHandle == NO_HANDLE) {
+            head = nextHandle;
+        } else {
+            next[previousHandle] = nextHandle;
+        }
+        if (nextHandle == NO_HANDLE) {
+            tail = previousHandle;
+        } else {
+            previous[nextHandle] = previousHandle;
+        }
+        // push the slot to the free list
+        values[handle] = null;
+        previous[handle] = FREE;
+        next[handle] = free;
+        free = handle;
+        size--;
+    }
+
+    /**
+     * removes the value at the index
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        int handle = handleAt(index);
+        if (handle != NO_HANDLE) {
+            unlink(handle);
+        }
+    }
+
+    /**
+     * remove all the matching values
+     *
+     * @param value value object
+     */
+    @Override
+    public void remove(T value) {
+        removeIf(currentValue -> currentValue.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter in a single walk
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        for (int handle = head; handle != NO_HANDLE; ) {
+            int nextHandle = next[handle];
+            if (filter.test(values[handle])) {
+                unlink(handle);
+            }
+            handle = nextHandle;
+        }
+    }
+
+    /**
+     * removes the values in the range, walks to the start index once and unlinks the following values
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        int handle = handleAt(fromIndex);
+        for (int i = fromIndex; i < toIndex && handle != NO_HANDLE; i++) {
+            int nextHandle = next[handle];
+            unlink(handle);
+            handle = nextHandle;
+        }
+    }
+
+    /**
+     * clears the list, sets size to 0 and sets values to null, the arrays are kept
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, used, null);
+        head = tail = free = NO_HANDLE;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * returns a new internal iterator of the list
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns a new internal iterator of the list that iterates from tail to head
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<T> reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * performs the action for each value from head to tail
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int handle = head; handle != NO_HANDLE; handle = next[handle]) {
+            action.accept(values[handle]);
+        }
+    }
+
+    /**
+     * returns the value at the index
+     *
+     * @param index int value position
+     * @return Maybe of value type at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        int handle = handleAt(index);
+        if (handle != NO_HANDLE && values[handle] != null) {
+            return values[handle];
+        }
+        return defaultValue;
+    }
+
+    /**
+     * returns the value of the handle
+     *
+     * @param handle handle of an existing value
+     * @return value
+     */
+    public T getValue(int handle) {
+        checkHandle(handle);
+        return values[handle];
+    }
+
+    /**
+     * returns the handle of the value towards tail
+     *
+     * @param handle handle of an existing value
+     * @return next handle, {@code NO_HANDLE} if the handle is the tail
+     */
+    public int getNextHandle(int handle) {
+        checkHandle(handle);
+        return next[handle];
+    }
+
+    /**
+     * returns the handle of the value towards head
+     *
+     * @param handle handle of an existing value
+     * @return previous handle, {@code NO_HANDLE} if the handle is the head
+     */
+    public int getPreviousHandle(int handle) {
+        checkHandle(handle);
+        return previous[handle];
+    }
+
+    /**
+     * returns the handle of the head value
+     *
+     * @return head handle, {@code NO_HANDLE} if the list is empty
+     */
+    public int getHeadHandle() {
+        return head;
+    }
+
+    /**
+     * returns the handle of the tail value
+     *
+     * @return tail handle, {@code NO_HANDLE} if the list is empty
+     */
+    public int getTailHandle() {
+        return tail;
+    }
+
+    /**
+     * find if any value exists
+     *
+     * @param value value to search
+     * @return true if any value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        for (int handle = head; handle != NO_HANDLE; handle = next[handle]) {
+            if (values[handle].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * returns a read only view of the head value
+     *
+     * @return QNode the head node, null if the list is empty
+     */
+    @Override
+    public QNode<T> getHead() {
+        return nodeOf(head);
+    }
+
+    /**
+     * returns a read only view of the tail value
+     *
+     * @return {@code QNode} the tail node, null if the list is empty
+     */
+    @Override
+    public QNode<T> getTail() {
+        return nodeOf(tail);
+    }
+
+    /**
+     * returns the size of the list
+     *
+     * @return int size of the list
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * returns the number of slots
+     *
+     * @return capacity of the list
+     */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /**
+     * finds the handle at the index, walks from head or tail whichever is closer
+     *
+     * @param index position of value
+     * @return handle at index, {@code NO_HANDLE} if the index is not within the list
+     */
+    private int handleAt(int index) {
+        if (index < 0 || index >= size) {
+            return NO_HANDLE;
+        }
+        int handle;
+        if (index < (size >> 1)) {
+            handle = head;
+            for (int i = 0; i < index; i++) {
+                handle = next[handle];
+            }
+        } else {
+            handle = tail;
+            for (int i = size - 1; i > index; i--) {
+                handle = previous[handle];
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * takes a slot from the free list, or the next unused slot, and sets its value
+     *
+     * @param value generic type T
+     * @return handle of the slot
+     */
+    private int allocate(T value) {
+        int handle;
+        if (free != NO_HANDLE) {
+            handle = free;
+            free = next[handle];
+        } else {
+            if (used == values.length) {
+                expand();
+            }
+            handle = used;
+            used++;
+        }
+        values[handle] = value;
+        return handle;
+    }
+
+    /**
+     * links the handle between the previous and next handles
+     *
+     * @param handle         new handle
+     * @param previousHandle handle towards head, {@code NO_HANDLE} if the new one is the head
+     * @param nextHandle     handle towards tail, {@code NO_HANDLE} if the new one is the tail
+     */
+    private void link(int handle, int previousHandle, int nextHandle) {
+        previous[handle] = previousHandle;
+        next[handle] = nextHandle;
+        if (previousHandle == NO_HANDLE) {
+            head = handle;
+        } else {
+            next[previousHandle] = handle;
+        }
+        if (nextHandle == NO_HANDLE) {
+            tail = handle;
+        } else {
+            previous[nextHandle] = handle;
+        }
+        size++;
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= used || previous[handle] == FREE) {
+            throw new IllegalArgumentException("no value with handle: " + handle);
+        }
+    }
+
+    private QNode<T> nodeOf(int handle) {
+        return handle != NO_HANDLE ? new HandleNode(handle) : null;
+    }
+
+    /**
+     * doubles the arrays, handles stay the same
+     */
+    private void expand() {
+        int capacity = values.length << 1;
+        if (capacity < 0) {
+            throw new IllegalStateException("list can not grow beyond " + values.length);
+        }
+        values = Arrays.copyOf(values, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
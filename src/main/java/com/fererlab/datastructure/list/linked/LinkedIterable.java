@@ -0,0 +1,20 @@
+package com.fererlab.datastructure.list.linked;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+
+/**
+ * Iterable for linked list
+ *
+ * @param <T>
+ */
+public interface LinkedIterable<T> extends Iterable<T> {
+
+    /**
+     * returns an iterator that iterates through elements in reverse order, from tail to head
+     *
+     * @return Iterator
+     */
+    Iterator<T> reverseIterator();
+
+}
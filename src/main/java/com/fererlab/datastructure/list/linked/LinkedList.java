@@ -1,38 +1,192 @@
 package com.fererlab.datastructure.list.linked;
 
-import com.fererlab.datastructure.iterator.Iterable;
 import com.fererlab.datastructure.iterator.Iterator;
 import com.fererlab.datastructure.node.CNode;
 import com.fererlab.datastructure.node.Node;
 import com.fererlab.datastructure.node.QNode;
 import com.fererlab.datastructure.util.Maybe;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
  * final class LinkedList, implements Query and Command interfaces of LinkedList
  *
  * @param <T> generic type of the Node's value
  */
-public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iterable<T> {
+public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, LinkedIterable<T> {
 
     /**
-     * internal iterator class
+     * internal iterator class, keeps a cursor on the next node instead of an index,
+     * so each step follows one link and removing the current value does not walk the list
      */
     class InternalIterator extends Iterator<T> {
 
+        /**
+         * the node that will be returned by next
+         */
+        private QNode<T> nextNode;
+
+        /**
+         * the node returned by the last next call, null after remove
+         */
+        private QNode<T> lastReturned;
+
+        InternalIterator() {
+            this(head);
+        }
+
+        InternalIterator(QNode<T> startNode) {
+            this.nextNode = startNode;
+        }
+
         @Override
         protected int getSize() {
             return LinkedList.this.getSize();
         }
 
         @Override
-        protected Maybe<T> get(int currentIndex) {
-            return LinkedList.this.get(currentIndex);
+        protected T get(int currentIndex) {
+            return LinkedList.this.getOrDefault(currentIndex, null);
         }
 
         @Override
         protected void remove(int currentIndex) {
             LinkedList.this.remove(currentIndex);
         }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            lastReturned = nextNode;
+            nextNode = advance(nextNode);
+            return lastReturned.getValue();
+        }
+
+        /**
+         * removes the node returned by the last next call, O(1)
+         */
+        @Override
+        public void remove() {
+            if (lastReturned != null) {
+                unlink(lastReturned);
+                lastReturned = null;
+            }
+        }
+
+        /**
+         * returns the node after the current one in iteration order
+         *
+         * @param node current node
+         * @return next node
+         */
+        protected QNode<T> advance(QNode<T> node) {
+            return node.getNext();
+        }
+    }
+
+    /**
+     * internal reverse iterator class, starts from tail and follows previous links
+     */
+    class InternalReversIterator extends InternalIterator {
+
+        InternalReversIterator() {
+            super(tail);
+        }
+
+        @Override
+        protected QNode<T> advance(QNode<T> node) {
+            return node.getPrevious();
+        }
+    }
+
+    /**
+     * internal spliterator class, nodes can not be split in the middle without walking,
+     * so each split copies the next batch of values to an array, batches grow arithmetically
+     */
+    class InternalSpliterator implements Spliterator<T> {
+
+        private static final int BATCH_UNIT = 1 << 10;
+
+        private static final int MAXIMUM_BATCH = 1 << 25;
+
+        private QNode<T> current;
+        private int remaining;
+        private int batch = 0;
+
+        InternalSpliterator(QNode<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining > 0 && current != null) {
+                T value = current.getValue();
+                current = current.getNext();
+                remaining--;
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; remaining > 0 && current != null; remaining--) {
+                T value = current.getValue();
+                current = current.getNext();
+                action.accept(value);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining <= 1 || current == null) {
+                return null;
+            }
+            int length = Math.min(Math.min(batch + BATCH_UNIT, MAXIMUM_BATCH), remaining);
+            Object[] values = new Object[length];
+            int copied = 0;
+            for (; copied < length && current != null; copied++) {
+                values[copied] = current.getValue();
+                current = current.getNext();
+            }
+            batch = copied;
+            remaining -= copied;
+            return Spliterators.spliterator(values, 0, copied, characteristics());
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * node found by index and its distance from tail, values are added to head,
+     * so adding does not change the distance and does not replace the finger
+     */
+    private static final class Finger<T> {
+
+        private final QNode<T> node;
+        private final int fromTail;
+
+        private Finger(QNode<T> node, int fromTail) {
+            this.node = node;
+            this.fromTail = fromTail;
+        }
     }
 
     /**
@@ -50,6 +204,13 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
      */
     private int size = 0;
 
+    /**
+     * last node found by index, lookups near the previous one start from here instead of head or tail,
+     * queries by index replace it as a whole, so readers running at the same time never see
+     * the node of one lookup with the index of another
+     */
+    private Finger<T> finger;
+
     /**
      * adds value to the list
      *
@@ -109,13 +270,41 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
      */
     @Override
     public void remove(T value) {
+        removeIf(currentValue -> currentValue.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter in a single walk
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
         for (QNode<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
-            if (currentNode.getValue().equals(value)) {
+            if (filter.test(currentNode.getValue())) {
                 unlink(currentNode);
             }
         }
     }
 
+    /**
+     * removes the values in the range, walks to the start index once and unlinks the following nodes
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, getSize());
+        QNode<T> currentNode = findNodeAtIndex(fromIndex);
+        for (int i = fromIndex; i < toIndex && currentNode != null; i++) {
+            QNode<T> next = currentNode.getNext();
+            unlink(currentNode);
+            currentNode = next;
+        }
+    }
+
     /**
      * clears the list, sets size to 0, removes all references and sets values to null
      */
@@ -130,6 +319,7 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
             currentNode = next;
         }
         head = tail = null;
+        finger = null;
         size = 0;
     }
 
@@ -143,6 +333,39 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
         return new InternalIterator();
     }
 
+    /**
+     * returns a new internal iterator of linked list that iterates from tail to head
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<T> reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * returns a sized spliterator from head to tail that splits in batches,
+     * the list should not be modified while it is in use
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new InternalSpliterator(head, size);
+    }
+
+    /**
+     * performs the action for each value from head to tail, walks the nodes directly without an iterator
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (QNode<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+            action.accept(currentNode.getValue());
+        }
+    }
+
     /**
      * returns the value at the index
      *
@@ -160,6 +383,22 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
         return Maybe.create(value);
     }
 
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        QNode<T> node = findNodeAtIndex(index);
+        if (node != null && node.getValue() != null) {
+            return node.getValue();
+        }
+        return defaultValue;
+    }
+
     /**
      * find if any value exists
      *
@@ -179,16 +418,48 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
     }
 
     /**
-     * finds the node at the index
+     * finds the node at the index, starts from head, tail or the finger whichever is closer,
+     * the found node becomes the new finger
      *
      * @param index position of node
      * @return the node at the position
      */
     private QNode<T> findNodeAtIndex(int index) {
-        // return null if the index is greater then the size-1
-        if (index > getSize() - 1) {
+        // return null if the index is negative or greater then the size-1
+        if (index < 0 || index > getSize() - 1) {
             return null;
         }
+        QNode<T> node = walkToIndex(index);
+        Finger<T> current = finger;
+        if (current == null || current.node != node) {
+            finger = new Finger<>(node, getSize() - 1 - index);
+        }
+        return node;
+    }
+
+    /**
+     * walks to the node at the index from the closest known node
+     *
+     * @param index position of node, within the list
+     * @return the node at the position
+     */
+    private QNode<T> walkToIndex(int index) {
+        // check if the finger is closer than both head and tail
+        Finger<T> current = finger;
+        if (current != null) {
+            int fingerIndex = getSize() - 1 - current.fromTail;
+            int distance = Math.abs(index - fingerIndex);
+            if (distance < index && distance < getSize() - 1 - index) {
+                QNode<T> currentNode = current.node;
+                for (int i = fingerIndex; i < index; i++) {
+                    currentNode = currentNode.getNext();
+                }
+                for (int i = fingerIndex; i > index; i--) {
+                    currentNode = currentNode.getPrevious();
+                }
+                return currentNode;
+            }
+        }
         // check if the index is closer to head
         if (index < (getSize() >> 1)) {
             // start from head
@@ -246,6 +517,19 @@ public final class LinkedList<T> implements QLinkedList<T>, CLinkedList<T>, Iter
             next.setPrevious(previous);
         }
 
+        Finger<T> current = finger;
+        if (current != null && node == current.node) {
+            // the node after the finger takes its index, at the tail step back to the previous node
+            if (next != null) {
+                finger = new Finger<>(next, current.fromTail - 1);
+            } else {
+                finger = previous != null ? new Finger<>(previous, 0) : null;
+            }
+        } else {
+            // index of the removed node is not known, the finger may have moved
+            finger = null;
+        }
+
         // there are no nodes in the list has a reference to this node
         // will set this node to NULL,
         // since there is no other reference to it's object,
@@ -0,0 +1,710 @@
+package com.fererlab.datastructure.list.linked;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.node.QNode;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class UnrolledLinkedList, implements Query and Command interfaces of LinkedList
+ * <p/>
+ * Instead of one node per value, each node (chunk) holds a small array of values,
+ * so the per value overhead is one array slot and scanning reads contiguous memory.
+ * As in {@code LinkedList}, {@code add} inserts to the head, index 0 is the last added value.
+ * <p/>
+ * Values are kept at the end of the head chunk's array, so adding to the head only decrements
+ * the chunk's start offset, a new chunk is linked when the head chunk is full.
+ * Removing a value shifts the shorter side within its chunk, a chunk that becomes sparse
+ * is merged with its neighbour.
+ * <p/>
+ * <code>
+ * <pre>
+ * chunk capacity 4, add 1..6
+ * head [*]-[*]-[6]-[5] -> [4]-[3]-[2]-[1] <- tail
+ * </pre>
+ * </code>
+ * <p/>
+ * {@code getHead} and {@code getTail} return read only views of a value's position,
+ * views are not valid after the list is modified.
+ *
+ * @param <T> generic type of the value
+ */
+public final class UnrolledLinkedList<T> implements QLinkedList<T>, CLinkedList<T>, LinkedIterable<T> {
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    /**
+     * node of the list, holds up to chunk capacity values between start and start + count
+     */
+    private static final class Chunk<T> {
+
+        private final T[] values;
+        private int start;
+        private int count = 0;
+        private Chunk<T> previous;
+        private Chunk<T> next;
+
+        @SuppressWarnings("unchecked")
+        private Chunk(int capacity) {
+            this.values = (T[]) new Object[capacity];
+            this.start = capacity;
+        }
+
+        private T get(int offset) {
+            return values[start + offset];
+        }
+    }
+
+    /**
+     * chunk of an index and the offset of the index in the chunk, returned by {@code find}
+     */
+    private static final class Position<T> {
+
+        private final Chunk<T> chunk;
+        private final int offset;
+
+        private Position(Chunk<T> chunk, int offset) {
+            this.chunk = chunk;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * read only view of a value's position, implements {@code QNode} so that the list can be walked as a {@code QLinkedList}
+     */
+    private static final class ChunkNode<T> implements QNode<T> {
+
+        private final Chunk<T> chunk;
+        private final int offset;
+
+        private ChunkNode(Chunk<T> chunk, int offset) {
+            this.chunk = chunk;
+            this.offset = offset;
+        }
+
+        @Override
+        public T getValue() {
+            return chunk.get(offset);
+        }
+
+        @Override
+        public QNode<T> getPrevious() {
+            if (offset > 0) {
+                return new ChunkNode<>(chunk, offset - 1);
+            }
+            return chunk.previous != null ? new ChunkNode<>(chunk.previous, chunk.previous.count - 1) : null;
+        }
+
+        @Override
+        public QNode<T> getNext() {
+            if (offset < chunk.count - 1) {
+                return new ChunkNode<>(chunk, offset + 1);
+            }
+            return chunk.next != null ? new ChunkNode<>(chunk.next, 0) : null;
+        }
+    }
+
+    /**
+     * internal iterator class, keeps a cursor on the chunk and the offset of the next value
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private Chunk<T> chunk = head;
+        private int offset = 0;
+        private int nextIndex = 0;
+        private boolean removable = false;
+
+        @Override
+        protected int getSize() {
+            return UnrolledLinkedList.this.getSize();
+        }
+
+        @Override
+        protected T get(int currentIndex) {
+            return UnrolledLinkedList.this.getOrDefault(currentIndex, null);
+        }
+
+        @Override
+        protected void remove(int currentIndex) {
+            UnrolledLinkedList.this.remove(currentIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            while (offset >= chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            T value = chunk.get(offset);
+            offset++;
+            nextIndex++;
+            removable = true;
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                return;
+            }
+            removable = false;
+            nextIndex--;
+            if (removeAt(chunk, offset - 1)) {
+                // chunks are unlinked or merged, find the cursor again
+                if (nextIndex < size) {
+                    Position<T> position = find(nextIndex);
+                    chunk = position.chunk;
+                    offset = position.offset;
+                }
+            } else {
+                // the values after the removed one moved one step towards start
+                offset--;
+            }
+        }
+    }
+
+    /**
+     * internal reverse iterator class, starts from tail and walks towards head
+     */
+    class InternalReversIterator extends Iterator<T> {
+
+        private Chunk<T> chunk = tail;
+        private int offset = tail != null ? tail.count - 1 : -1;
+        private int index = size;
+        private boolean removable = false;
+
+        @Override
+        protected int getSize() {
+            return UnrolledLinkedList.this.getSize();
+        }
+
+        @Override
+        protected T get(int currentIndex) {
+            return UnrolledLinkedList.this.getOrDefault(currentIndex, null);
+        }
+
+        @Override
+        protected void remove(int currentIndex) {
+            UnrolledLinkedList.this.remove(currentIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index > 0;
+        }
+
+        @Override
+        public T next() {
+            while (offset < 0) {
+                chunk = chunk.previous;
+                offset = chunk.count - 1;
+            }
+            T value = chunk.get(offset);
+            offset--;
+            index--;
+            removable = true;
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                return;
+            }
+            removable = false;
+            // the values before the removed one keep their offsets unless chunks are unlinked or merged
+            if (removeAt(chunk, offset + 1) && index > 0) {
+                Position<T> position = find(index - 1);
+                chunk = position.chunk;
+                offset = position.offset;
+            }
+        }
+    }
+
+    private final int chunkCapacity;
+
+    /**
+     * head chunk, holds the last inserted values
+     */
+    private Chunk<T> head;
+
+    /**
+     * tail chunk, holds the first inserted values
+     */
+    private Chunk<T> tail;
+
+    /**
+     * current size of the list
+     */
+    private int size = 0;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * creates a list
+     *
+     * @param chunkCapacity number of values a chunk can hold, at least 4
+     */
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException("chunk capacity should be at least 4, chunkCapacity: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * adds value to the head of the list
+     *
+     * @param value generic type T
+     */
+    @Override
+    public void add(T value) {
+        if (head == null || (head.start == 0 && head.count == chunkCapacity)) {
+            linkHead(new Chunk<>(chunkCapacity));
+        } else if (head.start == 0) {
+            // free slots are at the end of the array, move the values to the end
+            System.arraycopy(head.values, 0, head.values, chunkCapacity - head.count, head.count);
+            Arrays.fill(head.values, 0, chunkCapacity - head.count, null);
+            head.start = chunkCapacity - head.count;
+        }
+        head.start--;
+        head.values[head.start] = value;
+        head.count++;
+        size++;
+    }
+
+    /**
+     * removes the value at the index
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        if (index >= 0 && index < size) {
+            Position<T> position = find(index);
+            removeAt(position.chunk, position.offset);
+        }
+    }
+
+    /**
+     * remove all the matching values
+     *
+     * @param value value object
+     */
+    @Override
+    public void remove(T value) {
+        removeIf(currentValue -> currentValue.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter, the filter is tested for all the values first,
+     * so a filter that throws leaves the list unchanged, then each chunk is compacted in a single pass
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        BitSet removed = null;
+        int index = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++, index++) {
+                if (filter.test(chunk.get(i))) {
+                    if (removed == null) {
+                        removed = new BitSet(size);
+                    }
+                    removed.set(index);
+                }
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        index = 0;
+        for (Chunk<T> chunk = head; chunk != null; ) {
+            Chunk<T> next = chunk.next;
+            int count = chunk.count;
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (!removed.get(index + i)) {
+                    chunk.values[chunk.start + kept] = chunk.get(i);
+                    kept++;
+                }
+            }
+            index += count;
+            truncate(chunk, kept);
+            chunk = next;
+        }
+        if (head != null) {
+            mergeSparseChunks(head, tail);
+        }
+    }
+
+    /**
+     * removes the values in the range, each chunk in the range is compacted with a single array copy
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        Position<T> position = find(fromIndex);
+        Chunk<T> chunk = position.chunk;
+        int index = fromIndex - position.offset;
+        while (chunk != null && index < toIndex) {
+            Chunk<T> next = chunk.next;
+            int count = chunk.count;
+            int chunkFrom = Math.max(fromIndex - index, 0);
+            int chunkTo = Math.min(toIndex - index, count);
+            System.arraycopy(chunk.values, chunk.start + chunkTo, chunk.values, chunk.start + chunkFrom, count - chunkTo);
+            truncate(chunk, count - (chunkTo - chunkFrom));
+            index += count;
+            chunk = next;
+        }
+        // the chunks that lost values are now next to each other around the start index
+        if (size > 0) {
+            Chunk<T> chunkAtStart = fromIndex < size ? find(fromIndex).chunk : tail;
+            Chunk<T> first = chunkAtStart.previous != null ? chunkAtStart.previous : chunkAtStart;
+            mergeSparseChunks(first, chunkAtStart.next != null ? chunkAtStart.next : chunkAtStart);
+        }
+    }
+
+    /**
+     * clears the list, sets size to 0, removes all references and sets values to null
+     */
+    @Override
+    public void clear() {
+        for (Chunk<T> chunk = head; chunk != null; ) {
+            Chunk<T> next = chunk.next;
+            Arrays.fill(chunk.values, null);
+            chunk.previous = chunk.next = null;
+            chunk = next;
+        }
+        head = tail = null;
+        size = 0;
+    }
+
+    /**
+     * returns a new internal iterator of the list
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns a new internal iterator of the list that iterates from tail to head
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<T> reverseIterator() {
+        return new InternalReversIterator();
+    }
+
+    /**
+     * performs the action for each value from head to tail, scans the chunk arrays directly
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = chunk.start, end = chunk.start + chunk.count; i < end; i++) {
+                action.accept(chunk.values[i]);
+            }
+        }
+    }
+
+    /**
+     * returns the value at the index
+     *
+     * @param index int value position
+     * @return Maybe of value type at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it, walks chunk by chunk from head or tail
+     * whichever is closer, does not change any state of the list
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index < 0 || index >= size) {
+            return defaultValue;
+        }
+        T value;
+        if (index < (size >> 1)) {
+            Chunk<T> chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            value = chunk.get(index);
+        } else {
+            Chunk<T> chunk = tail;
+            int fromTail = size - 1 - index;
+            while (fromTail >= chunk.count) {
+                fromTail -= chunk.count;
+                chunk = chunk.previous;
+            }
+            value = chunk.get(chunk.count - 1 - fromTail);
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * find if any value exists
+     *
+     * @param value value to search
+     * @return true if any value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = chunk.start, end = chunk.start + chunk.count; i < end; i++) {
+                if (chunk.values[i].equals(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * returns a read only view of the head value
+     *
+     * @return QNode the head node, null if the list is empty
+     */
+    @Override
+    public QNode<T> getHead() {
+        return head != null ? new ChunkNode<>(head, 0) : null;
+    }
+
+    /**
+     * returns a read only view of the tail value
+     *
+     * @return {@code QNode} the tail node, null if the list is empty
+     */
+    @Override
+    public QNode<T> getTail() {
+        return tail != null ? new ChunkNode<>(tail, tail.count - 1) : null;
+    }
+
+    /**
+     * returns the size of the list
+     *
+     * @return int size of the list
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * returns the number of linked chunks, each chunk holds an array of chunk capacity
+     *
+     * @return number of chunks
+     */
+    public int getChunkCount() {
+        int count = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * finds the chunk of the index and the offset in it, walks chunk by chunk from head or tail whichever is closer,
+     * used by the commands, {@code getOrDefault} walks the same way without creating a position
+     *
+     * @param index position of value, within the list
+     * @return the chunk holding the value at index and the offset of the value in the chunk
+     */
+    private Position<T> find(int index) {
+        if (index < (size >> 1)) {
+            Chunk<T> chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            return new Position<>(chunk, index);
+        }
+        Chunk<T> chunk = tail;
+        int fromTail = size - 1 - index;
+        while (fromTail >= chunk.count) {
+            fromTail -= chunk.count;
+            chunk = chunk.previous;
+        }
+        return new Position<>(chunk, chunk.count - 1 - fromTail);
+    }
+
+    /**
+     * removes the value at the offset of the chunk, shifts the shorter side of the chunk
+     *
+     * @param chunk  chunk of the value
+     * @param offset offset of the value in the chunk
+     * @return true if the chunk is unlinked or merged, false if only the values in the chunk moved
+     */
+    private boolean removeAt(Chunk<T> chunk, int offset) {
+        T[] values = chunk.values;
+        if (offset < (chunk.count >> 1)) {
+            // closer to start, shift the values before offset one step towards end
+            System.arraycopy(values, chunk.start, values, chunk.start + 1, offset);
+            values[chunk.start] = null;
+            chunk.start++;
+        } else {
+            // closer to end, shift the values after offset one step towards start
+            System.arraycopy(values, chunk.start + offset + 1, values, chunk.start + offset, chunk.count - offset - 1);
+            values[chunk.start + chunk.count - 1] = null;
+        }
+        chunk.count--;
+        size--;
+        if (chunk.count == 0) {
+            unlink(chunk);
+            return true;
+        }
+        return mergeIfSparse(chunk);
+    }
+
+    /**
+     * keeps the first values of the chunk, sets the others to null, unlinks the chunk if it becomes empty
+     *
+     * @param chunk chunk to truncate
+     * @param count number of values to keep
+     */
+    private void truncate(Chunk<T> chunk, int count) {
+        Arrays.fill(chunk.values, chunk.start + count, chunk.start + chunk.count, null);
+        size -= chunk.count - count;
+        chunk.count = count;
+        if (count == 0) {
+            unlink(chunk);
+        }
+    }
+
+    /**
+     * merges the chunk with a neighbour if it is at most a quarter full and both fit into one chunk
+     *
+     * @param chunk chunk that lost a value
+     * @return true if merged
+     */
+    private boolean mergeIfSparse(Chunk<T> chunk) {
+        if (chunk.count > (chunkCapacity >> 2)) {
+            return false;
+        }
+        if (chunk.next != null && chunk.count + chunk.next.count <= (chunkCapacity * 3) >> 2) {
+            merge(chunk, chunk.next);
+        } else if (chunk.previous != null && chunk.count + chunk.previous.count <= (chunkCapacity * 3) >> 2) {
+            merge(chunk.previous, chunk);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * merges neighbours from the first chunk to the last one while one of them is at most a quarter full
+     * and both fit into one chunk, used after bulk removals that compact chunks without merging them
+     *
+     * @param first first chunk to check
+     * @param last  last chunk to check, following the first one
+     */
+    private void mergeSparseChunks(Chunk<T> first, Chunk<T> last) {
+        Chunk<T> chunk = first;
+        while (chunk != last && chunk.next != null) {
+            Chunk<T> next = chunk.next;
+            boolean sparse = chunk.count <= (chunkCapacity >> 2) || next.count <= (chunkCapacity >> 2);
+            if (sparse && chunk.count + next.count <= (chunkCapacity * 3) >> 2) {
+                merge(chunk, next);
+                if (next == last) {
+                    last = chunk;
+                }
+            } else {
+                chunk = next;
+            }
+        }
+    }
+
+    /**
+     * moves the values of the second chunk to the end of the first one and unlinks the second chunk
+     *
+     * @param first  chunk that keeps the values
+     * @param second next chunk of the first one
+     */
+    private void merge(Chunk<T> first, Chunk<T> second) {
+        // gather the values of both chunks at the beginning of the first array, then move them to the end
+        T[] values = first.values;
+        int total = first.count + second.count;
+        System.arraycopy(values, first.start, values, 0, first.count);
+        System.arraycopy(second.values, second.start, values, first.count, second.count);
+        System.arraycopy(values, 0, values, chunkCapacity - total, total);
+        Arrays.fill(values, 0, chunkCapacity - total, null);
+        first.start = chunkCapacity - total;
+        first.count = total;
+        Arrays.fill(second.values, null);
+        second.count = 0;
+        unlink(second);
+    }
+
+    /**
+     * links the chunk as the head chunk
+     *
+     * @param chunk empty chunk
+     */
+    private void linkHead(Chunk<T> chunk) {
+        chunk.next = head;
+        if (head != null) {
+            head.previous = chunk;
+        }
+        head = chunk;
+        if (tail == null) {
+            tail = chunk;
+        }
+    }
+
+    /**
+     * removes the chunk and sets previous and next chunks' references
+     *
+     * @param chunk chunk to be removed
+     */
+    private void unlink(Chunk<T> chunk) {
+        Chunk<T> previous = chunk.previous;
+        Chunk<T> next = chunk.next;
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.next = next;
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.previous = previous;
+        }
+        chunk.previous = chunk.next = null;
+    }
+
+}
@@ -0,0 +1,378 @@
+package com.fererlab.datastructure.list.persistent;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * final class PersistentVector, immutable vector that implements Query interface of PersistentVector
+ * <p/>
+ * values are kept in a trie of 32 slot arrays, the last up to 32 values are kept in a separate tail array.
+ * an update copies only the arrays on the path from the root to the changed value, all the other arrays
+ * are shared with the previous version, so every version stays valid and can be read by any thread.
+ * get and with are O(log32 n), append and pop are O(1) while the tail has room, O(log32 n) otherwise.
+ * <p/>
+ * <code>
+ * <pre>
+ * size 70, shift 5
+ * root  [ * , * ]
+ *         |   |
+ *         |   [32..63]
+ *         [0..31]
+ * tail  [64..69]
+ * </pre>
+ * </code>
+ * <p/>
+ * a snapshot of the vector is the reference to it, there is nothing to copy
+ *
+ * @param <T> generic type of the value
+ */
+public final class PersistentVector<T> implements QPersistentVector<T>, Iterable<T> {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+
+    /**
+     * shared empty vector
+     */
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    /**
+     * internal iterator class, walks the leaf arrays instead of searching each index from the root
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private int index = 0;
+        private Object[] leaf;
+
+        @Override
+        protected int getSize() {
+            return PersistentVector.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return PersistentVector.this.getOrDefault(index, null);
+        }
+
+        /**
+         * vector is immutable, use {@code pop} or {@code with} to create a new version
+         *
+         * @param index int value index
+         */
+        @Override
+        protected void remove(int index) {
+            throw new UnsupportedOperationException("persistent vector can not be modified");
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if ((index & MASK) == 0) {
+                leaf = arrayFor(index);
+            }
+            return elementAt(leaf, index++ & MASK);
+        }
+
+        @Override
+        public void remove() {
+            remove(index - 1);
+        }
+    }
+
+    private final int size;
+
+    /**
+     * number of index bits below the root, 5 for a root of leaf arrays
+     */
+    private final int shift;
+
+    private final Object[] root;
+
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * returns the shared empty vector
+     *
+     * @param <T> generic type of the value
+     * @return empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * creates a vector of the values
+     *
+     * @param values iterable of values
+     * @param <T>    generic type of the value
+     * @return vector of the values in iteration order
+     */
+    public static <T> PersistentVector<T> from(Iterable<? extends T> values) {
+        PersistentVector<T> vector = empty();
+        for (Iterator<? extends T> iterator = values.iterator(); iterator.hasNext(); ) {
+            vector = vector.append(iterator.next());
+        }
+        return vector;
+    }
+
+    /**
+     * returns a new version with the value at the index replaced, copies the path to the value
+     *
+     * @param index int value position
+     * @param value generic type T
+     * @return new version of the vector
+     */
+    @Override
+    public PersistentVector<T> with(int index, T value) {
+        if (index < 0 || index >= size) {
+            return this;
+        }
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, with(shift, root, index, value), tail);
+    }
+
+    /**
+     * returns a new version with the value added to the end, a full tail is moved into the trie
+     *
+     * @param value generic type T
+     * @return new version of the vector
+     */
+    @Override
+    public PersistentVector<T> append(T value) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // root is full, add a level above it
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    /**
+     * returns a new version without the last value, the last leaf of the trie becomes the tail when the tail empties
+     *
+     * @return new version of the vector
+     */
+    @Override
+    public PersistentVector<T> pop() {
+        if (size == 0) {
+            return this;
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = arrayFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            // root has a single child, remove a level
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * performs the action for each value, walks each leaf array once
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = arrayFor(i);
+            int length = Math.min(WIDTH, size - i);
+            for (int j = 0; j < length; j++) {
+                action.accept(elementAt(leaf, j));
+            }
+        }
+    }
+
+    /**
+     * returns the value at the index in O(log32 n)
+     *
+     * @param index int value position
+     * @return Maybe of value at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index >= 0 && index < size) {
+            T value = elementAt(arrayFor(index), index & MASK);
+            if (value != null) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = arrayFor(i);
+            int length = Math.min(WIDTH, size - i);
+            for (int j = 0; j < length; j++) {
+                if (leaf[j] != null && leaf[j].equals(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * index of the first value in the tail
+     *
+     * @return tail offset
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * returns the leaf array that holds the index
+     *
+     * @param index int value position, within the vector
+     * @return leaf array or tail
+     */
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] with(int level, Object[] node, int index, Object value) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = with(level - BITS, (Object[]) node[child], index, value);
+        }
+        return copy;
+    }
+
+    /**
+     * copies the path to the last leaf and puts the tail there
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if (level == BITS) {
+            copy[child] = tailNode;
+        } else {
+            Object[] childNode = (Object[]) parent[child];
+            copy[child] = childNode != null
+                    ? pushTail(level - BITS, childNode, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    /**
+     * copies the path to the last leaf without it, returns null if the node becomes empty
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int child = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+            if (newChild == null && child == 0) {
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[child] = newChild;
+            return copy;
+        }
+        if (child == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[child] = null;
+        return copy;
+    }
+
+    /**
+     * creates a single path of nodes down to the leaf
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(Object[] leaf, int offset) {
+        return (T) leaf[offset];
+    }
+
+}
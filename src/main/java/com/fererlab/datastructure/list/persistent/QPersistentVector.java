@@ -0,0 +1,34 @@
+package com.fererlab.datastructure.list.persistent;
+
+import com.fererlab.datastructure.collection.QCollection;
+
+/**
+ * Query interface of persistent vector, updates do not change the vector, they return a new version of it
+ */
+public interface QPersistentVector<T> extends QCollection<T> {
+
+    /**
+     * returns a new version with the value at the index replaced, index out of range returns this version
+     *
+     * @param index int value position
+     * @param value generic type T
+     * @return new version of the vector
+     */
+    QPersistentVector<T> with(int index, T value);
+
+    /**
+     * returns a new version with the value added to the end
+     *
+     * @param value generic type T
+     * @return new version of the vector
+     */
+    QPersistentVector<T> append(T value);
+
+    /**
+     * returns a new version without the last value, an empty vector returns itself
+     *
+     * @return new version of the vector
+     */
+    QPersistentVector<T> pop();
+
+}
@@ -0,0 +1,19 @@
+package com.fererlab.datastructure.list.skip;
+
+import com.fererlab.datastructure.collection.CCollection;
+
+/**
+ * Command interface of skip list
+ */
+public interface CSkipList<T> extends CCollection<T> {
+
+    /**
+     * inserts the value at the index, values at and after the index move one position towards the end,
+     * index equal to the size appends the value, index out of range is ignored
+     *
+     * @param index position of the new value
+     * @param value generic type T
+     */
+    void add(int index, T value);
+
+}
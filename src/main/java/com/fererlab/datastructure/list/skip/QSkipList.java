@@ -0,0 +1,9 @@
+package com.fererlab.datastructure.list.skip;
+
+import com.fererlab.datastructure.collection.QCollection;
+
+/**
+ * Query interface of skip list
+ */
+public interface QSkipList<T> extends QCollection<T> {
+}
@@ -0,0 +1,444 @@
+package com.fererlab.datastructure.list.skip;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class SkipList, indexable skip list that implements Query and Command interfaces of SkipList
+ * <p/>
+ * every node has a random number of levels, each level links to the next node that has that level
+ * and keeps the width of the link, the number of positions it skips. Walking from the top level down
+ * and summing the widths finds any position in O(log n) expected steps, so get, insert and remove
+ * at an index are all O(log n) and do not copy or walk the other values.
+ * <p/>
+ * <code>
+ * <pre>
+ * level 2  head ------------------------4------------------------> [c] --2--> end
+ * level 1  head ------2------> [a] -----2------> [b] -----1------> [c] --2--> end
+ * level 0  head -1-> [x] -1-> [a] -1-> [y] -1-> [b] -1-> [z] -1-> [c] -1-> [w] -1-> end
+ * index             0         1        2        3        4        5        6
+ * </pre>
+ * </code>
+ * <p/>
+ * positions are counted from the head, which is position 0, so the value at index i is at position i + 1,
+ * a link without a next node reaches the end, position size + 1
+ *
+ * @param <T> generic type of the value
+ */
+public final class SkipList<T> implements QSkipList<T>, CSkipList<T>, Iterable<T> {
+
+    private static final int MAXIMUM_LEVEL = 32;
+
+    /**
+     * node of the skip list, next and width arrays have one entry per level of the node
+     */
+    private static final class Node<T> {
+
+        private T value;
+        private final Node<T>[] next;
+        private final int[] width;
+
+        private Node(T value, int level) {
+            this.value = value;
+            this.next = createNodeArray(level);
+            this.width = new int[level];
+        }
+    }
+
+    /**
+     * internal iterator class, keeps a cursor on the next node at level 0
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private Node<T> nextNode = head.next[0];
+        private int nextIndex = 0;
+        private boolean removable = false;
+
+        @Override
+        protected int getSize() {
+            return SkipList.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return SkipList.this.getOrDefault(index, null);
+        }
+
+        @Override
+        protected void remove(int index) {
+            SkipList.this.remove(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            T value = nextNode.value;
+            nextNode = nextNode.next[0];
+            nextIndex++;
+            removable = true;
+            return value;
+        }
+
+        /**
+         * removes the value returned by the last next call, O(log n)
+         */
+        @Override
+        public void remove() {
+            if (removable) {
+                nextIndex--;
+                SkipList.this.remove(nextIndex);
+                removable = false;
+            }
+        }
+    }
+
+    /**
+     * sentinel node before the first value, it has all the levels
+     */
+    private final Node<T> head = new Node<>(null, MAXIMUM_LEVEL);
+
+    /**
+     * last node before the searched position at each level, filled by findPredecessors
+     */
+    private final Node<T>[] predecessors = createNodeArray(MAXIMUM_LEVEL);
+
+    /**
+     * positions of the predecessors
+     */
+    private final int[] predecessorPositions = new int[MAXIMUM_LEVEL];
+
+    private final Random random;
+
+    /**
+     * number of levels in use, at least 1
+     */
+    private int level = 1;
+
+    /**
+     * current size of the list
+     */
+    private int size = 0;
+
+    public SkipList() {
+        this(new Random());
+    }
+
+    /**
+     * creates a skip list
+     *
+     * @param random source of the node levels, a seeded random gives the same shape for the same operations
+     */
+    public SkipList(Random random) {
+        this.random = random;
+        head.width[0] = 1;
+    }
+
+    /**
+     * adds value to the end of the list
+     *
+     * @param value generic type T
+     */
+    @Override
+    public void add(T value) {
+        add(size, value);
+    }
+
+    /**
+     * inserts the value at the index in O(log n)
+     *
+     * @param index position of the new value
+     * @param value generic type T
+     */
+    @Override
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            return;
+        }
+        int position = index + 1;
+        findPredecessors(position);
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            // new levels start from head and reach the end
+            for (int i = level; i < nodeLevel; i++) {
+                head.next[i] = null;
+                head.width[i] = size + 1;
+                predecessors[i] = head;
+                predecessorPositions[i] = 0;
+            }
+            level = nodeLevel;
+        }
+        Node<T> node = new Node<>(value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            Node<T> predecessor = predecessors[i];
+            int predecessorPosition = predecessorPositions[i];
+            // the old link is split in two, the node after it moves one position
+            node.next[i] = predecessor.next[i];
+            node.width[i] = predecessorPosition + predecessor.width[i] + 1 - position;
+            predecessor.next[i] = node;
+            predecessor.width[i] = position - predecessorPosition;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            // links over the new node skip one more position
+            predecessors[i].width[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * adds all the values to the end, adding the list to itself copies the current values once
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        if (values == this) {
+            // new nodes are linked after the current ones, walk only the current ones
+            Node<T> node = head.next[0];
+            for (int count = size; count > 0; count--) {
+                add(node.value);
+                node = node.next[0];
+            }
+            return;
+        }
+        values.forEach(this::add);
+    }
+
+    /**
+     * removes the value at the index in O(log n)
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        removeRange(index, index + 1);
+    }
+
+    /**
+     * remove all the matching values
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        removeIf(current -> current != null && current.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter, the filter is tested for all the values first,
+     * so a filter that throws leaves the list unchanged, then the remaining nodes are relinked in a single walk
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        BitSet removed = null;
+        int index = 0;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0], index++) {
+            if (filter.test(node.value)) {
+                if (removed == null) {
+                    removed = new BitSet(size);
+                }
+                removed.set(index);
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        // predecessors are reused as the last kept node at each level
+        for (int i = 0; i < level; i++) {
+            predecessors[i] = head;
+            predecessorPositions[i] = 0;
+        }
+        int position = 0;
+        index = 0;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0], index++) {
+            if (removed.get(index)) {
+                node.value = null;
+                continue;
+            }
+            position++;
+            for (int i = 0; i < node.next.length; i++) {
+                predecessors[i].next[i] = node;
+                predecessors[i].width[i] = position - predecessorPositions[i];
+                predecessors[i] = node;
+                predecessorPositions[i] = position;
+            }
+        }
+        size = position;
+        for (int i = 0; i < level; i++) {
+            predecessors[i].next[i] = null;
+            predecessors[i].width[i] = size + 1 - predecessorPositions[i];
+        }
+        lowerLevel();
+    }
+
+    /**
+     * removes the values in the range, finds the start in O(log n) and relinks each level over the range
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        int removed = toIndex - fromIndex;
+        // removed values are at positions fromIndex + 1 to toIndex
+        findPredecessors(fromIndex + 1);
+        for (int i = 0; i < level; i++) {
+            Node<T> predecessor = predecessors[i];
+            int predecessorPosition = predecessorPositions[i];
+            Node<T> successor = predecessor.next[i];
+            int successorPosition = predecessorPosition + predecessor.width[i];
+            while (successor != null && successorPosition <= toIndex) {
+                if (i == 0) {
+                    successor.value = null;
+                }
+                successorPosition += successor.width[i];
+                successor = successor.next[i];
+            }
+            predecessor.next[i] = successor;
+            predecessor.width[i] = successorPosition - removed - predecessorPosition;
+        }
+        size -= removed;
+        lowerLevel();
+    }
+
+    /**
+     * clears the list, sets size to 0 and unlinks all the nodes from head
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < level; i++) {
+            head.next[i] = null;
+        }
+        head.width[0] = 1;
+        level = 1;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * performs the action for each value, walks level 0 directly without an iterator
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            action.accept(node.value);
+        }
+    }
+
+    /**
+     * returns the value at the index in O(log n)
+     *
+     * @param index int value position
+     * @return Maybe of value at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index < 0 || index >= size) {
+            return defaultValue;
+        }
+        int position = index + 1;
+        Node<T> node = head;
+        int nodePosition = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && nodePosition + node.width[i] <= position) {
+                nodePosition += node.width[i];
+                node = node.next[i];
+            }
+            if (nodePosition == position) {
+                break;
+            }
+        }
+        return node.value != null ? node.value : defaultValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            if (node.value != null && node.value.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * fills the predecessors, the last node before the position at each level in use
+     *
+     * @param position position to search, between 1 and size + 1
+     */
+    private void findPredecessors(int position) {
+        Node<T> node = head;
+        int nodePosition = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && nodePosition + node.width[i] < position) {
+                nodePosition += node.width[i];
+                node = node.next[i];
+            }
+            predecessors[i] = node;
+            predecessorPositions[i] = nodePosition;
+        }
+    }
+
+    /**
+     * drops the empty top levels
+     */
+    private void lowerLevel() {
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    /**
+     * returns a level between 1 and the maximum level, each level is half as likely as the one below
+     *
+     * @return level of a new node
+     */
+    private int randomLevel() {
+        return Math.min(Integer.numberOfTrailingZeros(random.nextInt()) + 1, MAXIMUM_LEVEL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] createNodeArray(int size) {
+        return (Node<T>[]) new Node<?>[size];
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.fererlab.datastructure.map;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Command interface of concurrent map
+ * <p/>
+ * the methods return a value although they change the state, a separate {@code get} after them
+ * would not be atomic, another thread may change the key in between
+ *
+ * @param <K> generic type of the key
+ * @param <V> generic type of the value
+ */
+public interface CConcurrentMap<K, V> extends CMap<K, V> {
+
+    /**
+     * sets the value of the key if the key does not exist
+     *
+     * @param key   key, not null
+     * @param value value, not null
+     * @return the existing value, null if the value is put
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * computes and sets the value of the key if the key does not exist, the function is called at most once
+     *
+     * @param key             key, not null
+     * @param mappingFunction function to compute the value, returns null to put nothing
+     * @return the existing or computed value, null if nothing is put
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * sets the value if the key does not exist, otherwise sets the result of the function on the existing value
+     * and the given value, removes the key if the result is null
+     *
+     * @param key               key, not null
+     * @param value             value, not null
+     * @param remappingFunction function of the existing value and the given value
+     * @return the new value of the key, null if the key is removed
+     */
+    V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction);
+
+}
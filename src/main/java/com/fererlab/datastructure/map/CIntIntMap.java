@@ -0,0 +1,28 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * Command interface of int to int map
+ */
+public interface CIntIntMap {
+
+    /**
+     * sets the value of the key, replaces the old value if the key exists
+     *
+     * @param key   int key
+     * @param value int value
+     */
+    void put(int key, int value);
+
+    /**
+     * removes the key and its value, does nothing if the key does not exist
+     *
+     * @param key int key
+     */
+    void remove(int key);
+
+    /**
+     * removes all the keys and values
+     */
+    void clear();
+
+}
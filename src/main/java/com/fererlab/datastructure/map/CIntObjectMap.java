@@ -0,0 +1,30 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * Command interface of int to object map
+ *
+ * @param <V> generic type of the value
+ */
+public interface CIntObjectMap<V> {
+
+    /**
+     * sets the value of the key, replaces the old value if the key exists
+     *
+     * @param key   int key
+     * @param value value
+     */
+    void put(int key, V value);
+
+    /**
+     * removes the key and its value, does nothing if the key does not exist
+     *
+     * @param key int key
+     */
+    void remove(int key);
+
+    /**
+     * removes all the keys and values
+     */
+    void clear();
+
+}
@@ -0,0 +1,30 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * Command interface of long to object map
+ *
+ * @param <V> generic type of the value
+ */
+public interface CLongObjectMap<V> {
+
+    /**
+     * sets the value of the key, replaces the old value if the key exists
+     *
+     * @param key   long key
+     * @param value value
+     */
+    void put(long key, V value);
+
+    /**
+     * removes the key and its value, does nothing if the key does not exist
+     *
+     * @param key long key
+     */
+    void remove(long key);
+
+    /**
+     * removes all the keys and values
+     */
+    void clear();
+
+}
@@ -0,0 +1,40 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * Command interface of Map
+ *
+ * @param <K> generic type of the key
+ * @param <V> generic type of the value
+ */
+public interface CMap<K, V> {
+
+    /**
+     * sets the value of the key, replaces the old value if the key exists
+     *
+     * @param key   key, not null
+     * @param value value
+     */
+    void put(K key, V value);
+
+    /**
+     * puts all the keys and values of the other map
+     *
+     * @param values map of keys and values
+     */
+    default void putAll(QMap<? extends K, ? extends V> values) {
+        values.forEach(this::put);
+    }
+
+    /**
+     * removes the key and its value, does nothing if the key does not exist
+     *
+     * @param key key to remove
+     */
+    void remove(K key);
+
+    /**
+     * removes all the keys and values
+     */
+    void clear();
+
+}
@@ -0,0 +1,599 @@
+package com.fererlab.datastructure.map;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * final class ConcurrentHashMap, thread safe hash map that implements Query and Command interfaces of Map
+ * <p/>
+ * keys are kept in bins, linked nodes in an array of bins. Reads do not lock, they read the bin and
+ * the volatile links and values of its nodes. A key put to an empty bin is added with a single CAS,
+ * any other change locks the first node of its bin, so writers of different bins do not wait for each other.
+ * <p/>
+ * The map grows without stopping the other threads. A new array is created and the bins are moved one by one,
+ * a moved bin is replaced with a forwarding node that sends readers and writers to the new array.
+ * Writers that meet a forwarding node, or that find the map full while it is growing, move bins too.
+ * <p/>
+ * The size is a {@code LongAdder}, writers add to it without contending on a single counter,
+ * {@code getSize} is exact only while there are no writers. The size is compared with the threshold
+ * only when a key is added to a bin that is not empty, so most writers of a sparse map do not sum it.
+ * <p/>
+ * <code>
+ * <pre>
+ * growing from 4 to 8 bins, bins 3 and 2 are moved
+ * old  [a]-[ ]-[F]-[F]       F forwarding node
+ * new  [ ]-[ ]-[c]-[ ]-[ ]-[ ]-[d]-[b]
+ * </pre>
+ * </code>
+ * <p/>
+ * Null keys and values are not allowed, null means absent.
+ * Functions given to {@code computeIfAbsent} and {@code merge} run while the bin is locked,
+ * they should be short and should not change this map.
+ *
+ * @param <K> generic type of the key
+ * @param <V> generic type of the value
+ */
+public final class ConcurrentHashMap<K, V> implements QMap<K, V>, CConcurrentMap<K, V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * number of bins a thread claims at once while the map grows
+     */
+    private static final int TRANSFER_STRIDE = 16;
+
+    /**
+     * hash of a forwarding node
+     */
+    private static final int MOVED = -1;
+
+    /**
+     * hash of a reservation node, placeholder of a bin while computeIfAbsent runs
+     */
+    private static final int RESERVED = -2;
+
+    /**
+     * node of a bin, the key and hash never change, the value and the link are changed under the bin lock
+     */
+    private static class Node<K, V> {
+
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * replaces a moved bin, the bin is in the new array of the transfer
+     */
+    private final class ForwardingNode extends Node<K, V> {
+
+        final Transfer transfer;
+
+        ForwardingNode(Transfer transfer) {
+            super(MOVED, null, null, null);
+            this.transfer = transfer;
+        }
+    }
+
+    /**
+     * state of a growing map, threads claim ranges of bins from the end of the old array and move them
+     */
+    private final class Transfer {
+
+        final AtomicReferenceArray<Node<K, V>> oldTable;
+        final AtomicReferenceArray<Node<K, V>> newTable;
+        final ForwardingNode forwardingNode = new ForwardingNode(this);
+
+        /**
+         * bins below this index are not claimed yet
+         */
+        final AtomicInteger nextIndex;
+
+        /**
+         * number of bins not moved yet
+         */
+        final AtomicInteger remaining;
+
+        Transfer(AtomicReferenceArray<Node<K, V>> oldTable) {
+            this.oldTable = oldTable;
+            this.newTable = new AtomicReferenceArray<>(oldTable.length() << 1);
+            this.nextIndex = new AtomicInteger(oldTable.length());
+            this.remaining = new AtomicInteger(oldTable.length());
+        }
+
+        /**
+         * claims and moves ranges of bins until there is nothing left to claim,
+         * the thread that moves the last bin publishes the new array.
+         * A transfer of an array that is not the table any more is cleared without moving,
+         * its bins may be forwarding nodes and a replaced array never becomes the table again
+         */
+        void help() {
+            if (table != oldTable) {
+                transfer.compareAndSet(this, null);
+                return;
+            }
+            for (int end = nextIndex.get(); end > 0; end = nextIndex.get()) {
+                int start = Math.max(end - TRANSFER_STRIDE, 0);
+                if (nextIndex.compareAndSet(end, start)) {
+                    for (int i = end - 1; i >= start; i--) {
+                        moveBin(i);
+                    }
+                    if (remaining.addAndGet(start - end) == 0) {
+                        threshold = thresholdFor(newTable.length());
+                        table = newTable;
+                        transfer.set(null);
+                    }
+                }
+            }
+        }
+
+        /**
+         * copies the nodes of the bin to the two bins of the new array and then forwards the old bin,
+         * readers of the old bin still see the old nodes until the forwarding node is set
+         */
+        private void moveBin(int index) {
+            int length = oldTable.length();
+            while (true) {
+                Node<K, V> first = oldTable.get(index);
+                if (first == null) {
+                    if (oldTable.compareAndSet(index, null, forwardingNode)) {
+                        return;
+                    }
+                    continue;
+                }
+                synchronized (first) {
+                    if (oldTable.get(index) != first) {
+                        // a reservation ended or the first node was removed, read the bin again
+                        continue;
+                    }
+                    Node<K, V> low = null;
+                    Node<K, V> high = null;
+                    for (Node<K, V> node = first; node != null; node = node.next) {
+                        if ((node.hash & length) == 0) {
+                            low = new Node<>(node.hash, node.key, node.value, low);
+                        } else {
+                            high = new Node<>(node.hash, node.key, node.value, high);
+                        }
+                    }
+                    newTable.set(index, low);
+                    newTable.set(index + length, high);
+                    oldTable.set(index, forwardingNode);
+                    return;
+                }
+            }
+        }
+    }
+
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+
+    /**
+     * size that makes the map grow
+     */
+    private volatile int threshold;
+
+    /**
+     * current transfer, null if the map is not growing
+     */
+    private final AtomicReference<Transfer> transfer = new AtomicReference<>();
+
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * creates a map
+     *
+     * @param expectedSize number of keys the map can hold without growing
+     */
+    public ConcurrentHashMap(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.threshold = thresholdFor(capacity);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        putValue(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return putValue(key, value, true);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkNotNull(key);
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                // reserve the bin so that the function is called once, other writers of the bin wait for it
+                Node<K, V> reservation = new Node<>(RESERVED, null, null, null);
+                Node<K, V> node = null;
+                synchronized (reservation) {
+                    if (!tab.compareAndSet(index, null, reservation)) {
+                        continue;
+                    }
+                    try {
+                        V value = mappingFunction.apply(key);
+                        if (value != null) {
+                            node = new Node<>(hash, key, value, null);
+                        }
+                    } finally {
+                        tab.set(index, node);
+                    }
+                }
+                if (node == null) {
+                    return null;
+                }
+                addCount(1, false);
+                return node.value;
+            }
+            if (first.hash == MOVED) {
+                tab = helpTransfer(first);
+                continue;
+            }
+            V value;
+            synchronized (first) {
+                if (tab.get(index) != first) {
+                    continue;
+                }
+                Node<K, V> last = null;
+                for (Node<K, V> node = first; node != null; node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        return node.value;
+                    }
+                    last = node;
+                }
+                value = mappingFunction.apply(key);
+                if (value == null) {
+                    return null;
+                }
+                last.next = new Node<>(hash, key, value, null);
+            }
+            // the size is changed out of the lock, the transfer it may start locks other bins
+            addCount(1, true);
+            return value;
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        checkNotNull(key);
+        checkNotNull(value);
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                if (tab.compareAndSet(index, null, new Node<>(hash, key, value, null))) {
+                    addCount(1, false);
+                    return value;
+                }
+                continue;
+            }
+            if (first.hash == MOVED) {
+                tab = helpTransfer(first);
+                continue;
+            }
+            synchronized (first) {
+                if (tab.get(index) != first) {
+                    continue;
+                }
+                Node<K, V> previous = null;
+                for (Node<K, V> node = first; node != null; previous = node, node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        V merged = remappingFunction.apply(node.value, value);
+                        if (merged != null) {
+                            node.value = merged;
+                        } else {
+                            unlink(tab, index, previous, node);
+                        }
+                        return merged;
+                    }
+                }
+                previous.next = new Node<>(hash, key, value, null);
+            }
+            addCount(1, true);
+            return value;
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        if (key == null) {
+            return;
+        }
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                return;
+            }
+            if (first.hash == MOVED) {
+                tab = helpTransfer(first);
+                continue;
+            }
+            synchronized (first) {
+                if (tab.get(index) != first) {
+                    continue;
+                }
+                Node<K, V> previous = null;
+                for (Node<K, V> node = first; node != null; previous = node, node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        unlink(tab, index, previous, node);
+                        return;
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * removes all the keys bin by bin, keys put by other threads meanwhile may stay
+     */
+    @Override
+    public void clear() {
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        for (int index = 0; index < tab.length(); ) {
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                index++;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer(first);
+                index = 0;
+            } else {
+                synchronized (first) {
+                    if (tab.get(index) == first) {
+                        int removed = 0;
+                        for (Node<K, V> node = first; node != null; node = node.next) {
+                            if (node.hash >= 0) {
+                                removed++;
+                            }
+                        }
+                        tab.set(index, null);
+                        addCount(-removed, false);
+                        index++;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public Maybe<V> get(K key) {
+        return Maybe.create(getOrDefault(key, null));
+    }
+
+    /**
+     * returns the value of the key without locking
+     *
+     * @param key          key to search
+     * @param defaultValue value to return if there is no value for the key
+     * @return value of the key or default value
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        Node<K, V> node = tab.get(hash & (tab.length() - 1));
+        while (node != null) {
+            if (node.hash == MOVED) {
+                // the bin is moved, read it from the new array
+                tab = ((ForwardingNode) node).transfer.newTable;
+                node = tab.get(hash & (tab.length() - 1));
+                continue;
+            }
+            if (node.hash == hash && node.key.equals(key)) {
+                V value = node.value;
+                return value != null ? value : defaultValue;
+            }
+            node = node.next;
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return getOrDefault(key, null) != null;
+    }
+
+    /**
+     * performs the action for each key and value without locking,
+     * changes made by other threads meanwhile may or may not be seen
+     *
+     * @param action BiConsumer action
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        for (int index = 0; index < tab.length(); index++) {
+            forEach(tab, index, action);
+        }
+    }
+
+    /**
+     * returns the number of keys, exact only while there are no writers
+     *
+     * @return int size of the map
+     */
+    @Override
+    public int getSize() {
+        long sum = size.sum();
+        return sum < 0 ? 0 : (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * returns the number of bins
+     *
+     * @return capacity of the map
+     */
+    public int getCapacity() {
+        return table.length();
+    }
+
+    private V putValue(K key, V value, boolean onlyIfAbsent) {
+        checkNotNull(key);
+        checkNotNull(value);
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                if (tab.compareAndSet(index, null, new Node<>(hash, key, value, null))) {
+                    addCount(1, false);
+                    return null;
+                }
+                continue;
+            }
+            if (first.hash == MOVED) {
+                tab = helpTransfer(first);
+                continue;
+            }
+            synchronized (first) {
+                if (tab.get(index) != first) {
+                    continue;
+                }
+                Node<K, V> last = null;
+                for (Node<K, V> node = first; node != null; node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        V old = node.value;
+                        if (!onlyIfAbsent) {
+                            node.value = value;
+                        }
+                        return old;
+                    }
+                    last = node;
+                }
+                last.next = new Node<>(hash, key, value, null);
+            }
+            addCount(1, true);
+            return null;
+        }
+    }
+
+    /**
+     * removes the node from its bin, called under the bin lock
+     */
+    private void unlink(AtomicReferenceArray<Node<K, V>> tab, int index, Node<K, V> previous, Node<K, V> node) {
+        if (previous == null) {
+            tab.set(index, node.next);
+        } else {
+            previous.next = node.next;
+        }
+        addCount(-1, false);
+    }
+
+    /**
+     * adds to the size, starts or helps the transfer if the size reached the threshold,
+     * the size is summed only if check is true, when a key was added to a bin that was not empty.
+     * Keys added to empty bins do not sum the cells of the size, at most capacity of them can be added
+     * before a key is added to a bin that is not empty, and a full map has few empty bins
+     *
+     * @param delta change of the size
+     * @param check true if the size should be compared with the threshold
+     */
+    private void addCount(int delta, boolean check) {
+        size.add(delta);
+        // the threshold is published before the table, a new table is never seen with the old threshold
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        if (check && size.sum() >= threshold) {
+            Transfer current = transfer.get();
+            if (current != null) {
+                current.help();
+            } else if (tab.length() < MAXIMUM_CAPACITY) {
+                Transfer started = new Transfer(tab);
+                // the table may have been replaced by a transfer that ended after it was read,
+                // a transfer published after that is cleared by its first help without moving bins
+                if (table == tab && transfer.compareAndSet(null, started)) {
+                    started.help();
+                }
+            }
+        }
+    }
+
+    /**
+     * moves bins of the transfer of the forwarding node and returns the new array
+     */
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(Node<K, V> forwardingNode) {
+        Transfer current = ((ForwardingNode) forwardingNode).transfer;
+        current.help();
+        return current.newTable;
+    }
+
+    /**
+     * performs the action for the nodes of the bin, follows forwarding nodes to the two bins in the new array
+     */
+    private void forEach(AtomicReferenceArray<Node<K, V>> tab, int index, BiConsumer<? super K, ? super V> action) {
+        for (Node<K, V> node = tab.get(index); node != null; node = node.next) {
+            if (node.hash == MOVED) {
+                AtomicReferenceArray<Node<K, V>> newTable = ((ForwardingNode) node).transfer.newTable;
+                forEach(newTable, index, action);
+                forEach(newTable, index + tab.length(), action);
+                return;
+            }
+            V value = node.value;
+            if (node.hash >= 0 && value != null) {
+                action.accept(node.key, value);
+            }
+        }
+    }
+
+    private static void checkNotNull(Object object) {
+        if (object == null) {
+            throw new NullPointerException("null keys and values are not allowed");
+        }
+    }
+
+    /**
+     * spreads the hash code and clears the sign bit, negative hashes mark special nodes
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h = (h ^ (h >>> 16)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & 0x7FFFFFFF;
+    }
+
+    private static int thresholdFor(int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long minimum = (long) Math.ceil(Math.max(expectedSize, 1) / 0.75) + 1;
+        if (minimum >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(Integer.highestOneBit((int) minimum - 1) << 1, 2);
+    }
+
+}
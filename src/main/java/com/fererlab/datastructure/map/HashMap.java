@@ -0,0 +1,272 @@
+package com.fererlab.datastructure.map;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * final class HashMap, open addressing hash map that implements Query and Command interfaces of Map
+ * <p/>
+ * keys and values are kept in two flat arrays, a key and its value have the same slot.
+ * a key is put to the slot of its hash, or to the next free slot after it, linear probing,
+ * so a lookup reads neighbouring slots of a single array and adding a key does not allocate.
+ * removing a key moves the following keys of the same run back, so there are no deleted markers
+ * and lookups never get slower after removes.
+ * <p/>
+ * <code>
+ * <pre>
+ * capacity 8, a and c hash to 2, b hashes to 3
+ * keys    *-*-[a]-[c]-[b]-*-*-*
+ * values  *-*-[1]-[3]-[2]-*-*-*
+ * </pre>
+ * </code>
+ * <p/>
+ * null keys are not allowed, null means a free slot. null values are allowed,
+ * {@code get} returns empty for them, use {@code containsKey} to find the key.
+ *
+ * @param <K> generic type of the key
+ * @param <V> generic type of the value
+ */
+public final class HashMap<K, V> implements QMap<K, V>, CMap<K, V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    private final float loadFactor;
+
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int size = 0;
+
+    /**
+     * number of keys that makes the map grow
+     */
+    private int threshold;
+
+    public HashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public HashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * creates a map
+     *
+     * @param expectedSize number of keys the map can hold without growing
+     * @param loadFactor   ratio of keys to slots, between 0 and 1, lower is faster and uses more memory
+     */
+    public HashMap(int expectedSize, float loadFactor) {
+        if (!(loadFactor > 0f && loadFactor < 1f)) {
+            throw new IllegalArgumentException("load factor should be between 0 and 1, load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new NullPointerException("null keys are not allowed");
+        }
+        int slot = slotOf(key);
+        if (keys[slot] != null) {
+            values[slot] = value;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > threshold) {
+            resize(keys.length << 1);
+        }
+    }
+
+    /**
+     * removes the key, the keys after it in the same run are moved back to close the gap
+     *
+     * @param key key to remove
+     */
+    @Override
+    public void remove(K key) {
+        if (key == null) {
+            return;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] != null) {
+            closeGap(slot);
+            size--;
+        }
+    }
+
+    /**
+     * removes all the keys and values, capacity is kept
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Maybe<V> get(K key) {
+        return Maybe.create(getOrDefault(key, null));
+    }
+
+    /**
+     * returns the value of the key without wrapping it
+     *
+     * @param key          key to search
+     * @param defaultValue value to return if there is no value for the key
+     * @return value of the key or default value
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] != null && values[slot] != null) {
+            return valueAt(slot);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return key != null && keys[slotOf(key)] != null;
+    }
+
+    /**
+     * performs the action for each key and value, reads the arrays directly, order is not defined
+     *
+     * @param action BiConsumer action
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                action.accept(keyAt(slot), valueAt(slot));
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * returns the number of slots
+     *
+     * @return capacity of the map
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * finds the slot of the key, or the free slot where it should be put
+     *
+     * @param key key, not null
+     * @return slot index
+     */
+    private int slotOf(Object key) {
+        int slot = hash(key) & mask;
+        for (Object current = keys[slot]; current != null; current = keys[slot]) {
+            if (current.equals(key)) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * backward shift delete, moves the following keys that can be found from the gap into it
+     *
+     * @param gap slot of the removed key
+     */
+    private void closeGap(int gap) {
+        int slot = (gap + 1) & mask;
+        while (keys[slot] != null) {
+            int home = hash(keys[slot]) & mask;
+            // the key can move if the gap is not before its home slot in the run
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = null;
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("map can not grow beyond " + MAXIMUM_CAPACITY);
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * spreads the hash code so that keys with close hash codes do not fill a single run
+     *
+     * @param key key, not null
+     * @return mixed hash
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h = (h ^ (h >>> 16)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * returns the power of two capacity that holds the expected size under the load factor
+     */
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long minimum = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (minimum >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(Integer.highestOneBit((int) minimum - 1) << 1, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int slot) {
+        return (K) keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+}
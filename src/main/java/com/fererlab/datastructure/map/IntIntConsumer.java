@@ -0,0 +1,17 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * action on an int key and an int value, used to iterate primitive maps without boxing
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * performs the action
+     *
+     * @param key   int key
+     * @param value int value
+     */
+    void accept(int key, int value);
+
+}
@@ -0,0 +1,19 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * action on an int key and a value, used to iterate primitive maps without boxing the key
+ *
+ * @param <V> generic type of the value
+ */
+@FunctionalInterface
+public interface IntObjectConsumer<V> {
+
+    /**
+     * performs the action
+     *
+     * @param key   int key
+     * @param value value
+     */
+    void accept(int key, V value);
+
+}
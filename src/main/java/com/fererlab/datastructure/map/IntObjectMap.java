@@ -0,0 +1,248 @@
+package com.fererlab.datastructure.map;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+
+/**
+ * final class IntObjectMap, open addressing map of primitive int keys to values,
+ * keys are kept in an {@code int[]} so neither putting nor reading a value creates a wrapper object for the key
+ * <p/>
+ * key 0 marks a free slot, so the arrays need no separate state, a key 0 entry is kept in two fields
+ * next to the arrays. Collisions are resolved with linear probing and removes shift the following keys back,
+ * as in {@code HashMap}. A slot takes 8 bytes with compressed references.
+ *
+ * @param <V> generic type of the value
+ */
+public final class IntObjectMap<V> implements QIntObjectMap<V>, CIntObjectMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * key of a free slot
+     */
+    private static final int FREE = 0;
+
+    private final float loadFactor;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+
+    /**
+     * number of keys in the arrays, key 0 is not counted
+     */
+    private int size = 0;
+
+    private int threshold;
+
+    private boolean hasFreeKey = false;
+    private V freeKeyValue;
+
+    public IntObjectMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * creates a map
+     *
+     * @param expectedSize number of keys the map can hold without growing
+     * @param loadFactor   ratio of keys to slots, between 0 and 1, lower is faster and uses more memory
+     */
+    public IntObjectMap(int expectedSize, float loadFactor) {
+        if (!(loadFactor > 0f && loadFactor < 1f)) {
+            throw new IllegalArgumentException("load factor should be between 0 and 1, load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    @Override
+    public void put(int key, V value) {
+        if (key == FREE) {
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            values[slot] = value;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > threshold) {
+            resize(keys.length << 1);
+        }
+    }
+
+    @Override
+    public void remove(int key) {
+        if (key == FREE) {
+            hasFreeKey = false;
+            freeKeyValue = null;
+            return;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            closeGap(slot);
+            size--;
+        }
+    }
+
+    /**
+     * removes all the keys and values, capacity is kept
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        hasFreeKey = false;
+        freeKeyValue = null;
+        size = 0;
+    }
+
+    @Override
+    public Maybe<V> get(int key) {
+        return Maybe.create(getOrDefault(key, null));
+    }
+
+    @Override
+    public V getOrDefault(int key, V defaultValue) {
+        V value = null;
+        if (key == FREE) {
+            value = freeKeyValue;
+        } else {
+            int slot = slotOf(key);
+            if (keys[slot] == key) {
+                value = valueAt(slot);
+            }
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+        return key == FREE ? hasFreeKey : keys[slotOf(key)] == key;
+    }
+
+    /**
+     * performs the action for each key and value, reads the arrays directly, order is not defined
+     *
+     * @param action IntObjectConsumer action
+     */
+    @Override
+    public void forEach(IntObjectConsumer<? super V> action) {
+        if (hasFreeKey) {
+            action.accept(FREE, freeKeyValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                action.accept(keys[slot], valueAt(slot));
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return hasFreeKey ? size + 1 : size;
+    }
+
+    /**
+     * returns the number of slots
+     *
+     * @return capacity of the map
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * finds the slot of the key, or the free slot where it should be put
+     *
+     * @param key int key, not 0
+     * @return slot index
+     */
+    private int slotOf(int key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * backward shift delete, moves the following keys that can be found from the gap into it
+     *
+     * @param gap slot of the removed key
+     */
+    private void closeGap(int gap) {
+        int slot = (gap + 1) & mask;
+        while (keys[slot] != FREE) {
+            int home = hash(keys[slot]) & mask;
+            // the key can move if the gap is not before its home slot in the run
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = FREE;
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("map can not grow beyond " + MAXIMUM_CAPACITY);
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long minimum = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (minimum >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(Integer.highestOneBit((int) minimum - 1) << 1, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * action on a long key and a value, used to iterate primitive maps without boxing the key
+ *
+ * @param <V> generic type of the value
+ */
+@FunctionalInterface
+public interface LongObjectConsumer<V> {
+
+    /**
+     * performs the action
+     *
+     * @param key   long key
+     * @param value value
+     */
+    void accept(long key, V value);
+
+}
@@ -0,0 +1,39 @@
+package com.fererlab.datastructure.map;
+
+/**
+ * Query interface of int to int map
+ */
+public interface QIntIntMap {
+
+    /**
+     * returns the value of the key or the default value if the key does not exist
+     *
+     * @param key          int key
+     * @param defaultValue value to return if the key does not exist
+     * @return value of the key or default value
+     */
+    int getOrDefault(int key, int defaultValue);
+
+    /**
+     * find if key exists
+     *
+     * @param key int key
+     * @return true if the key exists
+     */
+    boolean containsKey(int key);
+
+    /**
+     * performs the action for each key and value
+     *
+     * @param action IntIntConsumer action
+     */
+    void forEach(IntIntConsumer action);
+
+    /**
+     * returns the number of keys
+     *
+     * @return int size of the map
+     */
+    int getSize();
+
+}
@@ -0,0 +1,51 @@
+package com.fererlab.datastructure.map;
+
+import com.fererlab.datastructure.util.Maybe;
+
+/**
+ * Query interface of int to object map
+ *
+ * @param <V> generic type of the value
+ */
+public interface QIntObjectMap<V> {
+
+    /**
+     * returns the value of the key
+     *
+     * @param key int key
+     * @return Maybe of value of the key
+     */
+    Maybe<V> get(int key);
+
+    /**
+     * returns the value of the key without wrapping it
+     *
+     * @param key          int key
+     * @param defaultValue value to return if there is no value for the key
+     * @return value of the key or default value
+     */
+    V getOrDefault(int key, V defaultValue);
+
+    /**
+     * find if key exists
+     *
+     * @param key int key
+     * @return true if the key exists
+     */
+    boolean containsKey(int key);
+
+    /**
+     * performs the action for each key and value
+     *
+     * @param action IntObjectConsumer action
+     */
+    void forEach(IntObjectConsumer<? super V> action);
+
+    /**
+     * returns the number of keys
+     *
+     * @return int size of the map
+     */
+    int getSize();
+
+}
@@ -0,0 +1,51 @@
+package com.fererlab.datastructure.map;
+
+import com.fererlab.datastructure.util.Maybe;
+
+/**
+ * Query interface of long to object map
+ *
+ * @param <V> generic type of the value
+ */
+public interface QLongObjectMap<V> {
+
+    /**
+     * returns the value of the key
+     *
+     * @param key long key
+     * @return Maybe of value of the key
+     */
+    Maybe<V> get(long key);
+
+    /**
+     * returns the value of the key without wrapping it
+     *
+     * @param key          long key
+     * @param defaultValue value to return if there is no value for the key
+     * @return value of the key or default value
+     */
+    V getOrDefault(long key, V defaultValue);
+
+    /**
+     * find if key exists
+     *
+     * @param key long key
+     * @return true if the key exists
+     */
+    boolean containsKey(long key);
+
+    /**
+     * performs the action for each key and value
+     *
+     * @param action LongObjectConsumer action
+     */
+    void forEach(LongObjectConsumer<? super V> action);
+
+    /**
+     * returns the number of keys
+     *
+     * @return int size of the map
+     */
+    int getSize();
+
+}
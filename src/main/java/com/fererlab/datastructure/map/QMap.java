@@ -0,0 +1,56 @@
+package com.fererlab.datastructure.map;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Query interface of Map
+ *
+ * @param <K> generic type of the key
+ * @param <V> generic type of the value
+ */
+public interface QMap<K, V> {
+
+    /**
+     * returns the value of the key
+     *
+     * @param key key to search
+     * @return Maybe of value of the key
+     */
+    Maybe<V> get(K key);
+
+    /**
+     * returns the value of the key without wrapping it
+     *
+     * @param key          key to search
+     * @param defaultValue value to return if there is no value for the key
+     * @return value of the key or default value
+     */
+    default V getOrDefault(K key, V defaultValue) {
+        return get(key).orElse(defaultValue);
+    }
+
+    /**
+     * find if key exists
+     *
+     * @param key key to search
+     * @return true if the key exists
+     */
+    boolean containsKey(K key);
+
+    /**
+     * performs the action for each key and value
+     *
+     * @param action BiConsumer action
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    /**
+     * returns the number of keys
+     *
+     * @return int size of the map
+     */
+    int getSize();
+
+}
@@ -0,0 +1,449 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.collection.CCollection;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Blocking queue, a {@code RingBuffer} guarded by a lock with not-empty and not-full conditions
+ * <p/>
+ * Consumers wait in {@code take} or {@code poll(timeout, unit)} instead of spinning on {@code getSize()}.
+ * Waiting uses {@code ReentrantLock} conditions, a waiting thread is parked,
+ * so a virtual thread waiting here releases its carrier thread, which is not the case for
+ * {@code synchronized} and {@code Object.wait} on older runtimes.
+ * <p/>
+ * {@code drainTo} takes the lock once for the whole batch and wakes the waiting producers once.
+ * <p/>
+ * As in {@code MpmcArrayQueue}, {@code offer}, {@code poll}, {@code take} and {@code drainTo}
+ * return a value although they change the state, since a separate peek and remove is not atomic.
+ * Null values are not allowed since null means empty for {@code poll}.
+ *
+ * @param <T> generic type of the value
+ */
+public final class BlockingQueue<T> implements QQueue<T>, CQueue<T> {
+
+    private final int capacity;
+
+    /**
+     * internal data structure to hold the values, guarded by lock
+     */
+    private final RingBuffer<T> ringBuffer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * creates an unbounded queue, the ring buffer grows as needed and {@code put} never waits
+     */
+    public BlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * creates a bounded queue
+     *
+     * @param capacity maximum number of values
+     */
+    public BlockingQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity should be greater than 0, capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.ringBuffer = new RingBuffer<>(Math.min(capacity, 16));
+    }
+
+    /**
+     * adds the value to the tail, waits until there is space
+     *
+     * @param value generic type T, not null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T value) throws InterruptedException {
+        checkNotNull(value);
+        lock.lockInterruptibly();
+        try {
+            while (ringBuffer.getSize() == capacity) {
+                notFull.await();
+            }
+            enqueue(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * adds the value to the tail if there is space
+     *
+     * @param value generic type T, not null
+     * @return true if added, false if the queue is full
+     */
+    public boolean offer(T value) {
+        checkNotNull(value);
+        lock.lock();
+        try {
+            if (ringBuffer.getSize() == capacity) {
+                return false;
+            }
+            enqueue(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * adds the value to the tail, waits up to the timeout until there is space
+     *
+     * @param value   generic type T, not null
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return true if added, false if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(value);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (ringBuffer.getSize() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * retrieves and removes the head, waits until a value is available
+     *
+     * @return head value
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (ringBuffer.getSize() == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * retrieves and removes the head if available
+     *
+     * @return head value, null if the queue is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return ringBuffer.getSize() == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * retrieves and removes the head, waits up to the timeout until a value is available
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return head value, null if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (ringBuffer.getSize() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes up to the maximum number of values from the head and adds them to the target in order,
+     * the lock is taken once for the whole batch.
+     * if the target throws, the values added to it so far are removed and the rest stay in the queue
+     *
+     * @param target       collection to add the values to
+     * @param maximumCount maximum number of values to move, a negative count moves nothing
+     * @return number of values moved
+     */
+    public int drainTo(CCollection<? super T> target, int maximumCount) {
+        if (target == this) {
+            throw new IllegalArgumentException("can not drain to itself");
+        }
+        lock.lock();
+        try {
+            int count = Math.min(Math.max(maximumCount, 0), ringBuffer.getSize());
+            int moved = 0;
+            try {
+                while (moved < count) {
+                    target.add(ringBuffer.getOrDefault(moved, null));
+                    moved++;
+                }
+            } finally {
+                if (moved > 0) {
+                    ringBuffer.removeRange(0, moved);
+                    notFull.signalAll();
+                }
+            }
+            return moved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * adds value to the tail
+     *
+     * @param value add value to queue, not null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T value) {
+        if (!offer(value)) {
+            throw new IllegalStateException("queue is full, capacity: " + capacity);
+        }
+    }
+
+    /**
+     * removes the head value, does nothing if the queue is empty
+     */
+    @Override
+    public void remove() {
+        poll();
+    }
+
+    /**
+     * removes the value at index
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        lock.lock();
+        try {
+            int size = ringBuffer.getSize();
+            ringBuffer.remove(index);
+            signalNotFullIfRemoved(size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes the all value with this value
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        lock.lock();
+        try {
+            int size = ringBuffer.getSize();
+            ringBuffer.remove(value);
+            signalNotFullIfRemoved(size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes all the values matching the filter
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        lock.lock();
+        try {
+            int size = ringBuffer.getSize();
+            ringBuffer.removeIf(filter);
+            signalNotFullIfRemoved(size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes the values in the range
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            int size = ringBuffer.getSize();
+            ringBuffer.removeRange(fromIndex, toIndex);
+            signalNotFullIfRemoved(size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes all values
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            int size = ringBuffer.getSize();
+            ringBuffer.clear();
+            signalNotFullIfRemoved(size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * returns the head of the queue
+     *
+     * @return head of the queue
+     */
+    @Override
+    public Maybe<T> peek() {
+        return Maybe.create(peekOrDefault(null));
+    }
+
+    /**
+     * returns the head of the queue without wrapping it
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return head of the queue or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        return getOrDefault(0, defaultValue);
+    }
+
+    /**
+     * returns the value at the index
+     *
+     * @param index int value position
+     * @return returns the value at the index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        lock.lock();
+        try {
+            return ringBuffer.getOrDefault(index, defaultValue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * returns true if the value exists
+     *
+     * @param value value to search
+     * @return true if the value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        lock.lock();
+        try {
+            return ringBuffer.contains(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * size of the queue
+     *
+     * @return size of the queue
+     */
+    @Override
+    public int getSize() {
+        lock.lock();
+        try {
+            return ringBuffer.getSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * returns the maximum number of values
+     *
+     * @return capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * adds the value and wakes a waiting consumer, lock should be held
+     *
+     * @param value generic type T
+     */
+    private void enqueue(T value) {
+        ringBuffer.add(value);
+        notEmpty.signal();
+    }
+
+    /**
+     * removes the head and wakes a waiting producer, lock should be held
+     *
+     * @return head value
+     */
+    private T dequeue() {
+        T value = ringBuffer.getOrDefault(0, null);
+        ringBuffer.remove(0);
+        notFull.signal();
+        return value;
+    }
+
+    /**
+     * wakes all waiting producers if any value is removed, lock should be held
+     *
+     * @param previousSize size before the removal
+     */
+    private void signalNotFullIfRemoved(int previousSize) {
+        if (ringBuffer.getSize() < previousSize) {
+            notFull.signalAll();
+        }
+    }
+
+    private static void checkNotNull(Object value) {
+        if (value == null) {
+            throw new NullPointerException("null values are not allowed");
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.fererlab.datastructure.queue;
+
+/**
+ * Command interface of IndexedPriorityQueue, values are changed by their int handles
+ *
+ * @param <T>
+ */
+public interface CIndexedPriorityQueue<T> {
+
+    /**
+     * adds the handle with its key
+     *
+     * @param handle non negative int handle, not in the queue
+     * @param key    key of the handle
+     */
+    void add(int handle, T key);
+
+    /**
+     * sets a key that is not greater than the current key of the handle
+     *
+     * @param handle int handle in the queue
+     * @param key    new key
+     */
+    void decreaseKey(int handle, T key);
+
+    /**
+     * sets a key that is not less than the current key of the handle
+     *
+     * @param handle int handle in the queue
+     * @param key    new key
+     */
+    void increaseKey(int handle, T key);
+
+    /**
+     * sets the key of the handle, adds the handle if it is not in the queue
+     *
+     * @param handle non negative int handle
+     * @param key    new key
+     */
+    void update(int handle, T key);
+
+    /**
+     * removes the head of the queue
+     */
+    void remove();
+
+    /**
+     * removes the handle and its key
+     *
+     * @param handle int handle
+     */
+    void remove(int handle);
+
+    /**
+     * removes all the handles
+     */
+    void clear();
+
+}
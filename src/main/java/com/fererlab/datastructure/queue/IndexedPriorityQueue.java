@@ -0,0 +1,336 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * final class IndexedPriorityQueue, d-ary min heap of int handles ordered by their keys,
+ * implements Query and Command interfaces of IndexedPriorityQueue
+ * <p/>
+ * a handle is a non negative int chosen by the caller, such as a vertex of a graph.
+ * the heap array holds handles, {@code keys[handle]} is the key of a handle and
+ * {@code positions[handle]} is its index in the heap, so the key of a handle can be changed
+ * and the handle moved up or down in O(log n) without searching for it.
+ * <p/>
+ * <code>
+ * <pre>
+ * arity 2, add(0, 5), add(1, 2), add(2, 7)
+ * heap        [1]-[0]-[2]
+ * handle       0   1   2
+ * keys        [5]-[2]-[7]
+ * positions    1   0   2
+ * </pre>
+ * </code>
+ * <p/>
+ * {@code keys} and {@code positions} are as long as the largest handle, handles should be dense,
+ * for sparse handles map them to dense ones first.
+ *
+ * @param <T> generic type of the key
+ */
+public final class IndexedPriorityQueue<T> implements QIndexedPriorityQueue<T>, CIndexedPriorityQueue<T> {
+
+    /**
+     * handle value meaning there is no such handle
+     */
+    public static final int NO_HANDLE = -1;
+
+    /**
+     * position of a handle that is not in the queue
+     */
+    private static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int DEFAULT_ARITY = 4;
+
+    private final Comparator<? super T> comparator;
+    private final int arity;
+
+    /**
+     * handles in heap order
+     */
+    private int[] heap;
+
+    /**
+     * heap index of each handle, ABSENT if the handle is not in the queue
+     */
+    private int[] positions;
+
+    /**
+     * key of each handle
+     */
+    private T[] keys;
+
+    private int size = 0;
+
+    /**
+     * creates a 4-ary queue of comparable keys in natural order
+     */
+    @SuppressWarnings("unchecked")
+    public IndexedPriorityQueue() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    public IndexedPriorityQueue(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_ARITY, INITIAL_CAPACITY);
+    }
+
+    /**
+     * creates a queue
+     *
+     * @param comparator      order of the keys, the handle of the least key is the head
+     * @param arity           number of children of each handle in the heap, at least 2
+     * @param initialCapacity handles less than this are added without growing
+     */
+    public IndexedPriorityQueue(Comparator<? super T> comparator, int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("arity should be at least 2, arity: " + arity);
+        }
+        this.comparator = comparator;
+        this.arity = arity;
+        int capacity = Math.max(initialCapacity, 1);
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+        this.keys = createObjectArray(capacity);
+    }
+
+    /**
+     * adds the handle and moves it up until the key of its parent is not greater, O(log n)
+     *
+     * @param handle non negative int handle, not in the queue
+     * @param key    key of the handle
+     */
+    @Override
+    public void add(int handle, T key) {
+        if (handle < 0) {
+            throw new IllegalArgumentException("handle should not be negative, handle: " + handle);
+        }
+        if (contains(handle)) {
+            throw new IllegalArgumentException("handle is already in the queue, handle: " + handle);
+        }
+        if (handle >= positions.length) {
+            growHandles(handle + 1);
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.min(heap.length + (heap.length >> 1) + 1, positions.length));
+        }
+        keys[handle] = key;
+        siftUp(size, handle);
+        size++;
+    }
+
+    /**
+     * sets a smaller key and moves the handle up, O(log n)
+     *
+     * @param handle int handle in the queue
+     * @param key    new key, not greater than the current key
+     */
+    @Override
+    public void decreaseKey(int handle, T key) {
+        checkHandle(handle);
+        if (comparator.compare(key, keys[handle]) > 0) {
+            throw new IllegalArgumentException("key is greater than the current key of handle: " + handle);
+        }
+        keys[handle] = key;
+        siftUp(positions[handle], handle);
+    }
+
+    /**
+     * sets a greater key and moves the handle down, O(log n)
+     *
+     * @param handle int handle in the queue
+     * @param key    new key, not less than the current key
+     */
+    @Override
+    public void increaseKey(int handle, T key) {
+        checkHandle(handle);
+        if (comparator.compare(key, keys[handle]) < 0) {
+            throw new IllegalArgumentException("key is less than the current key of handle: " + handle);
+        }
+        keys[handle] = key;
+        siftDown(positions[handle], handle);
+    }
+
+    /**
+     * sets the key of the handle and moves it up or down, adds the handle if it is not in the queue, O(log n)
+     *
+     * @param handle non negative int handle
+     * @param key    new key
+     */
+    @Override
+    public void update(int handle, T key) {
+        if (!contains(handle)) {
+            add(handle, key);
+            return;
+        }
+        int compared = comparator.compare(key, keys[handle]);
+        keys[handle] = key;
+        if (compared < 0) {
+            siftUp(positions[handle], handle);
+        } else if (compared > 0) {
+            siftDown(positions[handle], handle);
+        }
+    }
+
+    /**
+     * removes the head, the handle of the least key, O(log n)
+     */
+    @Override
+    public void remove() {
+        if (size > 0) {
+            remove(heap[0]);
+        }
+    }
+
+    /**
+     * removes the handle, the last handle of the heap takes its place and moves down or up, O(log n)
+     *
+     * @param handle int handle
+     */
+    @Override
+    public void remove(int handle) {
+        if (!contains(handle)) {
+            return;
+        }
+        int position = positions[handle];
+        positions[handle] = ABSENT;
+        keys[handle] = null;
+        size--;
+        if (position < size) {
+            int last = heap[size];
+            siftDown(position, last);
+            if (heap[position] == last) {
+                siftUp(position, last);
+            }
+        }
+    }
+
+    /**
+     * removes all the handles, O(n), capacity is kept
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+            keys[heap[i]] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public int peekHandle() {
+        return size > 0 ? heap[0] : NO_HANDLE;
+    }
+
+    @Override
+    public Maybe<T> peek() {
+        return Maybe.create(peekOrDefault(null));
+    }
+
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        return size > 0 ? keys[heap[0]] : defaultValue;
+    }
+
+    @Override
+    public Maybe<T> get(int handle) {
+        return Maybe.create(getOrDefault(handle, null));
+    }
+
+    @Override
+    public T getOrDefault(int handle, T defaultValue) {
+        if (contains(handle) && keys[handle] != null) {
+            return keys[handle];
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < positions.length && positions[handle] != ABSENT;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * moves the handle up from the position until the key of its parent is not greater,
+     * parents are moved down into the hole and their positions are updated
+     *
+     * @param position start index in the heap
+     * @param handle   handle to place
+     */
+    private void siftUp(int position, int handle) {
+        T key = keys[handle];
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            int parentHandle = heap[parent];
+            if (comparator.compare(key, keys[parentHandle]) >= 0) {
+                break;
+            }
+            heap[position] = parentHandle;
+            positions[parentHandle] = position;
+            position = parent;
+        }
+        heap[position] = handle;
+        positions[handle] = position;
+    }
+
+    /**
+     * moves the handle down from the position until no child has a less key,
+     * the least child is moved up into the hole and its position is updated
+     *
+     * @param position start index in the heap
+     * @param handle   handle to place
+     */
+    private void siftDown(int position, int handle) {
+        T key = keys[handle];
+        while (true) {
+            int firstChild = arity * position + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int least = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (comparator.compare(keys[heap[child]], keys[heap[least]]) < 0) {
+                    least = child;
+                }
+            }
+            int leastHandle = heap[least];
+            if (comparator.compare(keys[leastHandle], key) >= 0) {
+                break;
+            }
+            heap[position] = leastHandle;
+            positions[leastHandle] = position;
+            position = least;
+        }
+        heap[position] = handle;
+        positions[handle] = position;
+    }
+
+    private void checkHandle(int handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("handle is not in the queue, handle: " + handle);
+        }
+    }
+
+    private void growHandles(int minimumCapacity) {
+        int capacity = Math.max(positions.length + (positions.length >> 1) + 1, minimumCapacity);
+        int oldCapacity = positions.length;
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, oldCapacity, capacity, ABSENT);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.fererlab.datastructure.queue;
+
+/**
+ * plain long value, {@code PaddedLong} extends it so that the fields of the superclass,
+ * the value, are laid out before the padding
+ */
+class LongValue {
+
+    long value;
+
+}
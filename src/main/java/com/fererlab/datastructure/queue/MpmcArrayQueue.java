@@ -0,0 +1,329 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free bounded multi-producer multi-consumer queue, a sequence numbered array ring
+ * <p/>
+ * Every slot has a sequence number, a producer may write a slot when its sequence equals the
+ * enqueue position and a consumer may read it when its sequence equals the dequeue position + 1.
+ * Producers and consumers claim positions with a single CAS on their own padded counter,
+ * so they do not contend with each other.
+ * <p/>
+ * <code>
+ * <pre>
+ * capacity 4, 2 values
+ * sequence   [5]-[6]-[3]-[4]
+ * value      [a]-[b]- * - *
+ * dequeue position 4, enqueue position 6
+ * </pre>
+ * </code>
+ * <p/>
+ * As explained in {@code Queue}, the peek-then-remove sequence is not atomic,
+ * two consumers may peek the same value and remove two different ones.
+ * That is why this queue has {@code offer} and {@code poll} methods which
+ * contradict the command query separation principle, they change the state and return a value.
+ * <p/>
+ * <code>
+ * <pre>
+ * T value = queue.poll(); // gets and removes the head element atomically, null if empty
+ * </pre>
+ * </code>
+ * <p/>
+ * Only the head of the queue can be removed, {@code remove(0)} is the same as {@code remove()},
+ * removing any other index or value is not supported.
+ * Queries other than {@code peek} are weakly consistent, they may or may not see concurrent changes.
+ * Null values are not allowed since null means empty for {@code poll}.
+ *
+ * @param <T> generic type of the value
+ */
+public final class MpmcArrayQueue<T> implements QQueue<T>, CQueue<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new PaddedAtomicLong(0);
+    private final AtomicLong dequeuePosition = new PaddedAtomicLong(0);
+
+    /**
+     * creates a queue, capacity will be rounded up to the next power of two
+     *
+     * @param capacity maximum number of values, at least 2
+     */
+    public MpmcArrayQueue(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity should be between 2 and 2^30, capacity: " + capacity);
+        }
+        int length = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = length - 1;
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * adds the value to the tail if there is space, atomically
+     *
+     * @param value generic type T, not null
+     * @return true if added, false if the queue is full
+     */
+    public boolean offer(T value) {
+        if (value == null) {
+            throw new NullPointerException("null values are not allowed");
+        }
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, value);
+                    // publish after the value, consumers read the sequence first
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                // slot is not consumed yet, one lap behind, queue is full
+                return false;
+            } else {
+                // another producer took this position
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * retrieves and removes the head of the queue atomically
+     *
+     * @return head value, null if the queue is empty
+     */
+    public T poll() {
+        long position = dequeuePosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    T value = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    // slot is free for the producer of the next lap
+                    sequences.lazySet(index, position + mask + 1);
+                    return value;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                // slot is not produced yet, queue is empty
+                return null;
+            } else {
+                // another consumer took this position
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * adds value to the tail
+     *
+     * @param value add value to queue, not null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T value) {
+        if (!offer(value)) {
+            throw new IllegalStateException("queue is full, capacity: " + getCapacity());
+        }
+    }
+
+    /**
+     * removes the head of the queue, does nothing if the queue is empty
+     */
+    @Override
+    public void remove() {
+        poll();
+    }
+
+    /**
+     * removes the head of the queue if the index is 0
+     *
+     * @param index index of the value
+     * @throws UnsupportedOperationException if the index is not 0
+     */
+    @Override
+    public void remove(int index) {
+        if (index != 0) {
+            throw new UnsupportedOperationException("only the head of the queue can be removed");
+        }
+        poll();
+    }
+
+    /**
+     * not supported, only the head of the queue can be removed
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        throw new UnsupportedOperationException("only the head of the queue can be removed");
+    }
+
+    /**
+     * not supported, only the head of the queue can be removed
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException("only the head of the queue can be removed");
+    }
+
+    /**
+     * removes up to {@code toIndex} values from the head if the start index is 0
+     *
+     * @param fromIndex start index, should be 0
+     * @param toIndex   end index, exclusive
+     * @throws UnsupportedOperationException if the start index is not 0
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex != 0) {
+            throw new UnsupportedOperationException("only the head of the queue can be removed");
+        }
+        for (int i = 0; i < toIndex && poll() != null; i++) {
+            // polled value is discarded
+        }
+    }
+
+    /**
+     * removes values until the queue is observed empty
+     */
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // polled value is discarded
+        }
+    }
+
+    /**
+     * returns the head of the queue
+     *
+     * @return head of the queue
+     */
+    @Override
+    public Maybe<T> peek() {
+        return Maybe.create(peekOrDefault(null));
+    }
+
+    /**
+     * returns the head of the queue without wrapping it, the value is the head at some moment
+     * during the call but it may be polled by another thread right after
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return head of the queue or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        while (true) {
+            long position = dequeuePosition.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference < 0) {
+                return defaultValue;
+            }
+            if (difference == 0) {
+                T value = buffer.get(index);
+                // value is valid if no consumer moved the head meanwhile
+                if (value != null && dequeuePosition.get() == position) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * returns the value at the index, weakly consistent
+     *
+     * @param index int value position
+     * @return returns the value at the index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it, weakly consistent
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index < 0 || index > mask) {
+            return defaultValue;
+        }
+        long position = dequeuePosition.get() + index;
+        int slot = (int) position & mask;
+        if (sequences.get(slot) == position + 1) {
+            T value = buffer.get(slot);
+            if (value != null && sequences.get(slot) == position + 1) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * returns true if the value exists, weakly consistent
+     *
+     * @param value value to search
+     * @return true if the value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        long head = dequeuePosition.get();
+        long tail = enqueuePosition.get();
+        for (long position = head; position < tail; position++) {
+            T current = buffer.get((int) position & mask);
+            if (current != null && current.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * size of the queue, weakly consistent
+     *
+     * @return size of the queue
+     */
+    @Override
+    public int getSize() {
+        while (true) {
+            long head = dequeuePosition.get();
+            long tail = enqueuePosition.get();
+            // a consistent pair, head did not move while tail was read
+            if (head == dequeuePosition.get()) {
+                return (int) Math.max(0, Math.min(tail - head, mask + 1L));
+            }
+        }
+    }
+
+    /**
+     * returns the maximum number of values
+     *
+     * @return capacity of the queue
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.fererlab.datastructure.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AtomicLong padded to fill a cache line, counters that are written by different threads
+ * should not share a cache line, otherwise every write invalidates the other thread's line (false sharing)
+ */
+@SuppressWarnings("unused")
+final class PaddedAtomicLong extends AtomicLong {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 7 longs after the value of AtomicLong, together 64 bytes
+     */
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    PaddedAtomicLong(long initialValue) {
+        super(initialValue);
+    }
+
+}
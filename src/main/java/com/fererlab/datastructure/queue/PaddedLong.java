@@ -0,0 +1,15 @@
+package com.fererlab.datastructure.queue;
+
+/**
+ * plain long padded to fill a cache line like {@code PaddedAtomicLong}, for a value that only one thread
+ * writes and reads, so that values written by other threads do not share its cache line
+ */
+@SuppressWarnings("unused")
+final class PaddedLong extends LongValue {
+
+    /**
+     * 7 longs after the value of LongValue, together 64 bytes
+     */
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+}
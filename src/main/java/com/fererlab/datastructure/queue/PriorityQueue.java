@@ -0,0 +1,417 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.collection.QCollection;
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class PriorityQueue, d-ary min heap that implements Query and Command interfaces of Queue
+ * <p/>
+ * values are kept in an array as a heap, the children of the value at index i are at indices
+ * {@code d * i + 1} to {@code d * i + d}, every value is less than or equal to its children,
+ * so {@code peek} returns the minimum and {@code add} and {@code remove} move a value along
+ * a single path in O(log n).
+ * a 4-ary heap is half as deep as a binary heap and its children are next to each other in memory,
+ * which makes it faster for large queues, arity 2 compares less per level.
+ * <p/>
+ * <code>
+ * <pre>
+ * arity 2
+ * [1]-[3]-[2]-[7]-[4]-[5]
+ *        1
+ *      3   2
+ *     7 4 5
+ * </pre>
+ * </code>
+ * <p/>
+ * {@code get} and iteration follow the heap order, not the sorted order, index 0 is the minimum.
+ * Values removed by index or by {@code removeIf} are replaced from the end of the heap,
+ * so iterators can not remove values.
+ *
+ * @param <T> generic type of the value
+ */
+public final class PriorityQueue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int DEFAULT_ARITY = 4;
+
+    /**
+     * internal iterator class, iterates in heap order
+     */
+    class InternalIterator extends Iterator<T> {
+
+        @Override
+        protected int getSize() {
+            return PriorityQueue.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return PriorityQueue.this.getOrDefault(index, null);
+        }
+
+        /**
+         * not supported, the last value of the heap would move to the index and may be skipped or seen twice
+         *
+         * @param index int value index
+         */
+        @Override
+        protected void remove(int index) {
+            throw new UnsupportedOperationException("heap iterator can not remove values, use removeIf");
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private final int arity;
+    private T[] heap;
+    private int size = 0;
+
+    /**
+     * creates a 4-ary queue of comparable values in natural order
+     */
+    @SuppressWarnings("unchecked")
+    public PriorityQueue() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    public PriorityQueue(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_ARITY, INITIAL_CAPACITY);
+    }
+
+    /**
+     * creates a queue
+     *
+     * @param comparator      order of the values, the least value is the head
+     * @param arity           number of children of each value, at least 2
+     * @param initialCapacity initial capacity
+     */
+    public PriorityQueue(Comparator<? super T> comparator, int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("arity should be at least 2, arity: " + arity);
+        }
+        this.comparator = comparator;
+        this.arity = arity;
+        this.heap = createObjectArray(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * creates a queue of the values, the heap is built bottom up in O(n)
+     *
+     * @param comparator order of the values, the least value is the head
+     * @param arity      number of children of each value, at least 2
+     * @param values     object values
+     */
+    public PriorityQueue(Comparator<? super T> comparator, int arity, T[] values) {
+        this(comparator, arity, values.length);
+        System.arraycopy(values, 0, heap, 0, values.length);
+        size = values.length;
+        heapify();
+    }
+
+    /**
+     * adds the value and moves it up until its parent is not greater, O(log n)
+     *
+     * @param value generic type T
+     */
+    @Override
+    public void add(T value) {
+        if (size == heap.length) {
+            grow(size + 1);
+        }
+        siftUp(size, value);
+        size++;
+    }
+
+    /**
+     * adds all the values, if there are more values than the queue has they are added in O(n) with a single heapify
+     *
+     * @param values object values
+     */
+    @Override
+    public void addAll(T[] values) {
+        if (values.length < size) {
+            for (T value : values) {
+                add(value);
+            }
+            return;
+        }
+        if (size + values.length > heap.length) {
+            grow(size + values.length);
+        }
+        System.arraycopy(values, 0, heap, size, values.length);
+        size += values.length;
+        heapify();
+    }
+
+    /**
+     * adds all the values, the array grows at most once if the values is a collection,
+     * adding the queue to itself copies the current values once
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        if (values == this) {
+            addAll(Arrays.copyOf(heap, size));
+            return;
+        }
+        if (values instanceof QCollection && size + ((QCollection<?>) values).getSize() > heap.length) {
+            grow(size + ((QCollection<?>) values).getSize());
+        }
+        values.forEach(this::add);
+    }
+
+    /**
+     * removes the head, the minimum value, O(log n)
+     */
+    @Override
+    public void remove() {
+        remove(0);
+    }
+
+    /**
+     * removes the value at the heap index, the last value takes its place and moves down or up, O(log n)
+     *
+     * @param index index of the value in heap order
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            return;
+        }
+        size--;
+        T last = heap[size];
+        heap[size] = null;
+        if (index < size) {
+            siftDown(index, last);
+            if (heap[index] == last) {
+                siftUp(index, last);
+            }
+        }
+    }
+
+    /**
+     * remove all the matching values
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        removeIf(current -> current.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter, the filter is tested for all the values first,
+     * so a filter that throws leaves the queue unchanged, then the remaining values are compacted and heapified in O(n)
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        BitSet removed = null;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(heap[i])) {
+                if (removed == null) {
+                    removed = new BitSet(size);
+                }
+                removed.set(i);
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        int kept = removed.nextSetBit(0);
+        for (int i = kept + 1; i < size; i++) {
+            if (!removed.get(i)) {
+                heap[kept] = heap[i];
+                kept++;
+            }
+        }
+        Arrays.fill(heap, kept, size, null);
+        size = kept;
+        heapify();
+    }
+
+    /**
+     * removes the values in the heap index range and heapifies the remaining values in O(n)
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        if (fromIndex < toIndex) {
+            System.arraycopy(heap, toIndex, heap, fromIndex, size - toIndex);
+            int newSize = size - (toIndex - fromIndex);
+            Arrays.fill(heap, newSize, size, null);
+            size = newSize;
+            heapify();
+        }
+    }
+
+    /**
+     * clears the queue, sets size to 0 and sets values to null, capacity is kept
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * performs the action for each value in heap order, reads the array directly without an iterator
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(heap[i]);
+        }
+    }
+
+    /**
+     * returns the minimum value
+     *
+     * @return Maybe of the minimum value
+     */
+    @Override
+    public Maybe<T> peek() {
+        return get(0);
+    }
+
+    /**
+     * returns the minimum value without wrapping it
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return the minimum value or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        return getOrDefault(0, defaultValue);
+    }
+
+    /**
+     * returns the value at the heap index, index 0 is the minimum
+     *
+     * @param index int value position in heap order
+     * @return Maybe of value at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index >= 0 && index < size && heap[index] != null) {
+            return heap[index];
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * returns the length of the internal array
+     *
+     * @return capacity of the queue
+     */
+    public int getCapacity() {
+        return heap.length;
+    }
+
+    /**
+     * moves the value up from the index until its parent is not greater, parents are moved down into the hole
+     *
+     * @param index start index
+     * @param value value to place
+     */
+    private void siftUp(int index, T value) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (comparator.compare(value, heap[parent]) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * moves the value down from the index until no child is less, the least child is moved up into the hole
+     *
+     * @param index start index
+     * @param value value to place
+     */
+    private void siftDown(int index, T value) {
+        while (true) {
+            int firstChild = arity * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int least = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (comparator.compare(heap[child], heap[least]) < 0) {
+                    least = child;
+                }
+            }
+            if (comparator.compare(heap[least], value) >= 0) {
+                break;
+            }
+            heap[index] = heap[least];
+            index = least;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * builds the heap bottom up, starts from the last parent, O(n)
+     */
+    private void heapify() {
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    private void grow(int minimumCapacity) {
+        int capacity = Math.max(heap.length + (heap.length >> 1) + 1, minimumCapacity);
+        heap = Arrays.copyOf(heap, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
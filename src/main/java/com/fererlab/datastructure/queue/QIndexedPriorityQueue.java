@@ -0,0 +1,66 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.util.Maybe;
+
+/**
+ * Query interface of IndexedPriorityQueue, values are found by their int handles
+ *
+ * @param <T>
+ */
+public interface QIndexedPriorityQueue<T> {
+
+    /**
+     * Retrieves, but does not remove, the handle of the least key
+     *
+     * @return handle of the head or -1 if the queue is empty
+     */
+    int peekHandle();
+
+    /**
+     * Retrieves, but does not remove, the least key
+     *
+     * @return head key
+     */
+    Maybe<T> peek();
+
+    /**
+     * Retrieves, but does not remove, the least key without wrapping it
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return head key or default value
+     */
+    T peekOrDefault(T defaultValue);
+
+    /**
+     * returns the key of the handle
+     *
+     * @param handle int handle
+     * @return Maybe of the key
+     */
+    Maybe<T> get(int handle);
+
+    /**
+     * returns the key of the handle without wrapping it
+     *
+     * @param handle       int handle
+     * @param defaultValue value to return if the handle is not in the queue
+     * @return key of the handle or default value
+     */
+    T getOrDefault(int handle, T defaultValue);
+
+    /**
+     * checks the handle is in the queue
+     *
+     * @param handle int handle
+     * @return true if the handle has a key
+     */
+    boolean contains(int handle);
+
+    /**
+     * returns the number of handles in the queue
+     *
+     * @return size
+     */
+    int getSize();
+
+}
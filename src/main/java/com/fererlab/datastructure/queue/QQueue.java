@@ -17,4 +17,12 @@ public interface QQueue<T> extends QCollection<T> {
      */
     Maybe<T> peek();
 
+    /**
+     * Retrieves, but does not remove, the head of this queue without wrapping it
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return head value or default value
+     */
+    T peekOrDefault(T defaultValue);
+
 }
@@ -4,9 +4,12 @@ import com.fererlab.datastructure.collection.CCollection;
 import com.fererlab.datastructure.collection.QCollection;
 import com.fererlab.datastructure.iterator.Iterable;
 import com.fererlab.datastructure.iterator.Iterator;
-import com.fererlab.datastructure.list.array.ArrayList;
 import com.fererlab.datastructure.util.Maybe;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
  * There are no enqueue and dequeue methods, although "add(T value)" method
  * may be used as enqueue, there is no dequeue alternative.
@@ -38,24 +41,25 @@ import com.fererlab.datastructure.util.Maybe;
 public class Queue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
 
     /**
-     * internal data structure to hold the values
+     * internal data structure to hold the values, a circular array so that
+     * removing the head does not shift the remaining values
      */
-    private ArrayList<T> arrayList = new ArrayList<>();
+    private RingBuffer<T> ringBuffer = new RingBuffer<>();
 
     /**
      * Iterable
      */
-    private Iterable<T> iterable = arrayList;
+    private Iterable<T> iterable = ringBuffer;
 
     /**
      * Query collection
      */
-    private QCollection<T> queryCollection = arrayList;
+    private QCollection<T> queryCollection = ringBuffer;
 
     /**
      * Command collection
      */
-    private CCollection<T> commandCollection = arrayList;
+    private CCollection<T> commandCollection = ringBuffer;
 
     /**
      * returns the iterator
@@ -67,6 +71,26 @@ public class Queue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
         return iterable.iterator();
     }
 
+    /**
+     * returns a spliterator from head to tail
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return iterable.spliterator();
+    }
+
+    /**
+     * performs the action for each value from head to tail
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        iterable.forEach(action);
+    }
+
     /**
      * adds value
      *
@@ -78,7 +102,28 @@ public class Queue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
     }
 
     /**
-     * removes the head value
+     * adds all the values in order
+     *
+     * @param values object values
+     */
+    @Override
+    public void addAll(T[] values) {
+        commandCollection.addAll(values);
+    }
+
+    /**
+     * adds all the values in iteration order
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        // the ring buffer copies itself once, iterating this queue while adding to it would never end
+        commandCollection.addAll(values == this ? ringBuffer : values);
+    }
+
+    /**
+     * removes the head value, O(1) since the ring buffer only advances its head index
      */
     @Override
     public void remove() {
@@ -105,6 +150,27 @@ public class Queue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
         commandCollection.remove(value);
     }
 
+    /**
+     * removes all the values matching the filter
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        commandCollection.removeIf(filter);
+    }
+
+    /**
+     * removes the values in the range, removing from index 0 dequeues the values
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        commandCollection.removeRange(fromIndex, toIndex);
+    }
+
     /**
      * removes all values
      */
@@ -123,6 +189,17 @@ public class Queue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
         return queryCollection.get(0);
     }
 
+    /**
+     * returns the head of the queue without wrapping it
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return head of the queue or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        return queryCollection.getOrDefault(0, defaultValue);
+    }
+
     /**
      * returns the value at the index
      *
@@ -134,6 +211,18 @@ public class Queue<T> implements QQueue<T>, CQueue<T>, Iterable<T> {
         return queryCollection.get(index);
     }
 
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        return queryCollection.getOrDefault(index, defaultValue);
+    }
+
     /**
      * returns true if the value exists
      *
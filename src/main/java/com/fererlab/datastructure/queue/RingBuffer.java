@@ -0,0 +1,451 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.collection.CCollection;
+import com.fererlab.datastructure.collection.QCollection;
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.BitSet;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * final class RingBuffer, circular array that implements Query and Command interfaces of Collection
+ * <p/>
+ * values are kept between the head and tail indices of a power of two sized array,
+ * indices wrap around with a mask, so adding to the tail and removing from the head
+ * are both O(1) and never move the other values
+ * <p/>
+ * <code>
+ * <pre>
+ * capacity 8, head 6, tail 2, size 4
+ * [3]-[4]-*-*-*-*-[1]-[2]
+ *          ^tail     ^head
+ * </pre>
+ * </code>
+ *
+ * @param <T> generic type of the value
+ */
+public final class RingBuffer<T> implements QCollection<T>, CCollection<T>, Iterable<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private T[] objects;
+    private int mask;
+    private int head = 0;
+    private int tail = 0;
+    private int size = 0;
+
+    /**
+     * internal iterator class
+     */
+    class InternalIterator extends Iterator<T> {
+
+        @Override
+        protected int getSize() {
+            return RingBuffer.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return RingBuffer.this.getOrDefault(index, null);
+        }
+
+        @Override
+        protected void remove(int index) {
+            RingBuffer.this.remove(index);
+        }
+    }
+
+    /**
+     * internal spliterator class, splits the range between head and tail in halves,
+     * positions are relative to head and masked on access
+     */
+    class InternalSpliterator implements Spliterator<T> {
+
+        private final T[] array;
+        private final int start;
+        private final int arrayMask;
+        private int index;
+        private final int fence;
+
+        InternalSpliterator(T[] array, int start, int index, int fence) {
+            this.array = array;
+            this.start = start;
+            this.arrayMask = array.length - 1;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index < fence) {
+                action.accept(array[(start + index) & arrayMask]);
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; index < fence; index++) {
+                action.accept(array[(start + index) & arrayMask]);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new InternalSpliterator(array, start, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    public RingBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * creates a ring buffer, capacity will be rounded up to the next power of two
+     *
+     * @param initialCapacity initial capacity
+     */
+    public RingBuffer(int initialCapacity) {
+        this.objects = createObjectArray(capacityFor(initialCapacity));
+        this.mask = objects.length - 1;
+    }
+
+    /**
+     * adds value to the tail
+     *
+     * @param value generic type T
+     */
+    @Override
+    public void add(T value) {
+        if (size == objects.length) {
+            expand();
+        }
+        objects[tail] = value;
+        tail = (tail + 1) & mask;
+        size++;
+    }
+
+    /**
+     * adds all the values to the tail, the array grows at most once
+     *
+     * @param values object values
+     */
+    @Override
+    public void addAll(T[] values) {
+        ensureCapacity(size + values.length);
+        for (T value : values) {
+            objects[tail] = value;
+            tail = (tail + 1) & mask;
+        }
+        size += values.length;
+    }
+
+    /**
+     * adds all the values to the tail, if the values is a collection the array grows at most once,
+     * adding the buffer to itself copies the current values once
+     *
+     * @param values iterable of values
+     */
+    @Override
+    public void addAll(Iterable<? extends T> values) {
+        if (values == this) {
+            int count = size;
+            ensureCapacity(count << 1);
+            for (int i = 0; i < count; i++) {
+                add(objects[(head + i) & mask]);
+            }
+            return;
+        }
+        if (values instanceof QCollection) {
+            ensureCapacity(size + ((QCollection<?>) values).getSize());
+        }
+        values.forEach(this::add);
+    }
+
+    /**
+     * removes the value at the index, index 0 is the head and removing it does not move any value,
+     * otherwise the shorter side of the buffer is shifted by one
+     *
+     * @param index index of the value
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            return;
+        }
+        if (index < (size >> 1)) {
+            // closer to head, shift the values before index one step towards tail
+            for (int i = index; i > 0; i--) {
+                objects[(head + i) & mask] = objects[(head + i - 1) & mask];
+            }
+            objects[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // closer to tail, shift the values after index one step towards head
+            for (int i = index; i < size - 1; i++) {
+                objects[(head + i) & mask] = objects[(head + i + 1) & mask];
+            }
+            tail = (tail - 1) & mask;
+            objects[tail] = null;
+        }
+        size--;
+    }
+
+    /**
+     * removes all the matching values in a single pass
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        removeIf(current -> current != null && current.equals(value));
+    }
+
+    /**
+     * removes all the values matching the filter, the filter is tested for all the values first,
+     * so a filter that throws leaves the buffer unchanged, then the remaining values are compacted in a single pass
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        BitSet removed = null;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(objects[(head + i) & mask])) {
+                if (removed == null) {
+                    removed = new BitSet(size);
+                }
+                removed.set(i);
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        int kept = removed.nextSetBit(0);
+        for (int i = kept + 1; i < size; i++) {
+            if (!removed.get(i)) {
+                objects[(head + kept) & mask] = objects[(head + i) & mask];
+                kept++;
+            }
+        }
+        truncate(kept);
+    }
+
+    /**
+     * removes the values in the range, a range starting from head only advances the head,
+     * otherwise the values after the range are moved once
+     *
+     * @param fromIndex start index, inclusive
+     * @param toIndex   end index, exclusive
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        fromIndex = Math.max(fromIndex, 0);
+        toIndex = Math.min(toIndex, size);
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        int removed = toIndex - fromIndex;
+        if (fromIndex == 0) {
+            for (int i = 0; i < removed; i++) {
+                objects[(head + i) & mask] = null;
+            }
+            head = (head + removed) & mask;
+            size -= removed;
+        } else {
+            for (int i = toIndex; i < size; i++) {
+                objects[(head + i - removed) & mask] = objects[(head + i) & mask];
+            }
+            truncate(size - removed);
+        }
+    }
+
+    /**
+     * clears the buffer, sets size to 0 and sets values to null, capacity is kept
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            objects[(head + i) & mask] = null;
+        }
+        head = tail = size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * returns a sized spliterator from head to tail that splits in halves,
+     * the buffer should not be modified while it is in use
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new InternalSpliterator(objects, head, 0, size);
+    }
+
+    /**
+     * performs the action for each value from head to tail, reads the array directly without an iterator
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(objects[(head + i) & mask]);
+        }
+    }
+
+    /**
+     * returns the value at the index, index 0 is the head
+     *
+     * @param index int value position
+     * @return Maybe of value at index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        Maybe<T> maybe = Maybe.empty();
+        if (index >= 0 && index < size) {
+            maybe = Maybe.create(objects[(head + index) & mask]);
+        }
+        return maybe;
+    }
+
+    /**
+     * returns the value at the index without wrapping it, index 0 is the head
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index >= 0 && index < size) {
+            T value = objects[(head + index) & mask];
+            if (value != null) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        boolean contains = false;
+        for (int i = 0; i < size; i++) {
+            T current = objects[(head + i) & mask];
+            if (current != null && current.equals(value)) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * returns the length of the internal array
+     *
+     * @return capacity of the buffer
+     */
+    public int getCapacity() {
+        return objects.length;
+    }
+
+    /**
+     * sets the size, slots after the new size are set to null and tail is moved back
+     *
+     * @param newSize new size, less than or equal to the current size
+     */
+    private void truncate(int newSize) {
+        for (int i = newSize; i < size; i++) {
+            objects[(head + i) & mask] = null;
+        }
+        size = newSize;
+        tail = (head + size) & mask;
+    }
+
+    /**
+     * grows the array, if needed, to the next power of two that can hold the minimum capacity
+     *
+     * @param minimumCapacity desired minimum capacity
+     */
+    private void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > objects.length) {
+            resize(capacityFor(minimumCapacity));
+        }
+    }
+
+    /**
+     * doubles the capacity
+     */
+    private void expand() {
+        if (objects.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("ring buffer can not grow beyond " + MAXIMUM_CAPACITY);
+        }
+        resize(objects.length << 1);
+    }
+
+    /**
+     * copies the values to a new array, values are unwrapped so head starts from 0 again
+     *
+     * @param capacity power of two capacity, greater than the size
+     */
+    private void resize(int capacity) {
+        T[] temp = objects;
+        objects = createObjectArray(capacity);
+        int headLength = temp.length - head;
+        System.arraycopy(temp, head, objects, 0, headLength);
+        System.arraycopy(temp, 0, objects, headLength, head);
+        head = 0;
+        tail = size;
+        mask = objects.length - 1;
+    }
+
+    private static int capacityFor(int initialCapacity) {
+        if (initialCapacity <= 1) {
+            return 1;
+        }
+        if (initialCapacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(initialCapacity - 1) << 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
@@ -0,0 +1,380 @@
+package com.fererlab.datastructure.queue;
+
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Wait-free bounded single-producer single-consumer queue
+ * <p/>
+ * Exactly one thread may add values (offer, add) and exactly one other thread may remove them
+ * (poll, drain, remove, clear, peek). Neither side ever retries or waits for the other,
+ * each operation completes in a bounded number of steps.
+ * <p/>
+ * The producer only writes the tail counter and the consumer only writes the head counter,
+ * both counters are padded to their own cache line. Each side keeps a cached copy of the
+ * opposite counter in a plain padded value and reads the shared one only when the cached copy says full or empty.
+ * The padding is laid out after the value by extending the class that holds it, superclass fields come first,
+ * the order of fields within a class is not fixed.
+ * Counters are published with ordered (lazy) writes, which do not wait for the store buffer to drain.
+ * <p/>
+ * As in {@code MpmcArrayQueue}, {@code offer}, {@code poll} and the batch {@code offer}, {@code drain}
+ * methods return a value although they change the state, so that a value can be handed off in one call.
+ * Only the head of the queue can be removed and null values are not allowed.
+ * Queries other than {@code peek} are weakly consistent and may be called from any thread.
+ *
+ * @param <T> generic type of the value
+ */
+public final class SpscArrayQueue<T> implements QQueue<T>, CQueue<T> {
+
+    private final int mask;
+    private final T[] buffer;
+
+    /**
+     * next position to write, written by producer
+     */
+    private final AtomicLong tail = new PaddedAtomicLong(0);
+
+    /**
+     * next position to read, written by consumer
+     */
+    private final AtomicLong head = new PaddedAtomicLong(0);
+
+    /**
+     * producer's copy of head, a plain padded value, written and read only by producer
+     */
+    private final PaddedLong headCache = new PaddedLong();
+
+    /**
+     * consumer's copy of tail, a plain padded value, written and read only by consumer
+     */
+    private final PaddedLong tailCache = new PaddedLong();
+
+    /**
+     * creates a queue, capacity will be rounded up to the next power of two
+     *
+     * @param capacity maximum number of values, at least 2
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity should be between 2 and 2^30, capacity: " + capacity);
+        }
+        this.buffer = createObjectArray(Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = buffer.length - 1;
+    }
+
+    /**
+     * adds the value to the tail if there is space, producer only
+     *
+     * @param value generic type T, not null
+     * @return true if added, false if the queue is full
+     */
+    public boolean offer(T value) {
+        if (value == null) {
+            throw new NullPointerException("null values are not allowed");
+        }
+        long position = tail.get();
+        if (freeSlots(position, 1) == 0) {
+            return false;
+        }
+        buffer[(int) position & mask] = value;
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * adds as many values as there is space for, the tail is published once for the whole batch, producer only,
+     * a negative length adds nothing and a length beyond the end of the array adds up to the last value
+     *
+     * @param values values to add, not null
+     * @param offset index of the first value to add, between 0 and the length of the array
+     * @param length number of values to add
+     * @return number of values added, from the offset in order
+     * @throws IndexOutOfBoundsException if the offset is outside of the array
+     */
+    public int offer(T[] values, int offset, int length) {
+        if (offset < 0 || offset > values.length) {
+            throw new IndexOutOfBoundsException("offset should be between 0 and " + values.length + ", offset: " + offset);
+        }
+        long position = tail.get();
+        int count = (int) freeSlots(position, Math.min(Math.max(length, 0), values.length - offset));
+        for (int i = 0; i < count; i++) {
+            T value = values[offset + i];
+            if (value == null) {
+                // publish what is written so far
+                tail.lazySet(position + i);
+                throw new NullPointerException("null values are not allowed, index: " + (offset + i));
+            }
+            buffer[(int) (position + i) & mask] = value;
+        }
+        if (count > 0) {
+            tail.lazySet(position + count);
+        }
+        return count;
+    }
+
+    /**
+     * retrieves and removes the head of the queue, consumer only
+     *
+     * @return head value, null if the queue is empty
+     */
+    public T poll() {
+        long position = head.get();
+        if (availableSlots(position, 1) == 0) {
+            return null;
+        }
+        int index = (int) position & mask;
+        T value = buffer[index];
+        buffer[index] = null;
+        head.lazySet(position + 1);
+        return value;
+    }
+
+    /**
+     * removes up to limit values and passes them to the consumer in order,
+     * the head is published once for the whole batch, consumer only
+     * <p/>
+     * if the consumer throws, the values passed so far, including the one it threw for, are removed
+     * and the rest stay in the queue
+     *
+     * @param consumer action for each removed value
+     * @param limit    maximum number of values to remove
+     * @return number of values removed
+     */
+    public int drain(Consumer<? super T> consumer, int limit) {
+        long position = head.get();
+        int count = (int) availableSlots(position, Math.max(limit, 0));
+        int removed = 0;
+        try {
+            while (removed < count) {
+                int index = (int) (position + removed) & mask;
+                T value = buffer[index];
+                buffer[index] = null;
+                removed++;
+                consumer.accept(value);
+            }
+        } finally {
+            if (removed > 0) {
+                head.lazySet(position + removed);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * adds value to the tail, producer only
+     *
+     * @param value add value to queue, not null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T value) {
+        if (!offer(value)) {
+            throw new IllegalStateException("queue is full, capacity: " + getCapacity());
+        }
+    }
+
+    /**
+     * removes the head of the queue, does nothing if the queue is empty, consumer only
+     */
+    @Override
+    public void remove() {
+        poll();
+    }
+
+    /**
+     * removes the head of the queue if the index is 0, consumer only
+     *
+     * @param index index of the value
+     * @throws UnsupportedOperationException if the index is not 0
+     */
+    @Override
+    public void remove(int index) {
+        if (index != 0) {
+            throw new UnsupportedOperationException("only the head of the queue can be removed");
+        }
+        poll();
+    }
+
+    /**
+     * not supported, only the head of the queue can be removed
+     *
+     * @param value object value
+     */
+    @Override
+    public void remove(T value) {
+        throw new UnsupportedOperationException("only the head of the queue can be removed");
+    }
+
+    /**
+     * not supported, only the head of the queue can be removed
+     *
+     * @param filter predicate returns true for values to be removed
+     */
+    @Override
+    public void removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException("only the head of the queue can be removed");
+    }
+
+    /**
+     * removes up to {@code toIndex} values from the head if the start index is 0, consumer only
+     *
+     * @param fromIndex start index, should be 0
+     * @param toIndex   end index, exclusive
+     * @throws UnsupportedOperationException if the start index is not 0
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex != 0) {
+            throw new UnsupportedOperationException("only the head of the queue can be removed");
+        }
+        drain(value -> {
+        }, toIndex);
+    }
+
+    /**
+     * removes the values that are visible to the consumer, consumer only
+     */
+    @Override
+    public void clear() {
+        drain(value -> {
+        }, Integer.MAX_VALUE);
+    }
+
+    /**
+     * returns the head of the queue, consumer only
+     *
+     * @return head of the queue
+     */
+    @Override
+    public Maybe<T> peek() {
+        return Maybe.create(peekOrDefault(null));
+    }
+
+    /**
+     * returns the head of the queue without wrapping it, consumer only
+     *
+     * @param defaultValue value to return if the queue is empty
+     * @return head of the queue or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        long position = head.get();
+        if (availableSlots(position, 1) == 0) {
+            return defaultValue;
+        }
+        return buffer[(int) position & mask];
+    }
+
+    /**
+     * returns the value at the index, weakly consistent
+     *
+     * @param index int value position
+     * @return returns the value at the index
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index without wrapping it, weakly consistent
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        long position = head.get();
+        if (index < 0 || index >= tail.get() - position) {
+            return defaultValue;
+        }
+        T value = buffer[(int) (position + index) & mask];
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * returns true if the value exists, weakly consistent
+     *
+     * @param value value to search
+     * @return true if the value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        long from = head.get();
+        long to = tail.get();
+        for (long position = from; position < to; position++) {
+            T current = buffer[(int) position & mask];
+            if (current != null && current.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * size of the queue, weakly consistent
+     *
+     * @return size of the queue
+     */
+    @Override
+    public int getSize() {
+        long from = head.get();
+        long to = tail.get();
+        return (int) Math.max(0, Math.min(to - from, buffer.length));
+    }
+
+    /**
+     * returns the maximum number of values
+     *
+     * @return capacity of the queue
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * returns the number of slots the producer can write, up to the wanted number,
+     * reads the consumer's head only if the cached copy is not enough
+     *
+     * @param position tail position
+     * @param wanted   number of slots needed
+     * @return free slots, at most wanted
+     */
+    private long freeSlots(long position, long wanted) {
+        long free = buffer.length - (position - headCache.value);
+        if (free < wanted) {
+            long currentHead = head.get();
+            headCache.value = currentHead;
+            free = buffer.length - (position - currentHead);
+        }
+        return Math.min(free, wanted);
+    }
+
+    /**
+     * returns the number of slots the consumer can read, up to the wanted number,
+     * reads the producer's tail only if the cached copy is not enough
+     *
+     * @param position head position
+     * @param wanted   number of slots needed
+     * @return available slots, at most wanted
+     */
+    private long availableSlots(long position, long wanted) {
+        long available = tailCache.value - position;
+        if (available < wanted) {
+            long currentTail = tail.get();
+            tailCache.value = currentTail;
+            available = currentTail - position;
+        }
+        return Math.min(available, wanted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createObjectArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.fererlab.datastructure.stack;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.array.ArrayIterable;
+import com.fererlab.datastructure.list.array.ArrayList;
+import com.fererlab.datastructure.list.array.CArrayList;
+import com.fererlab.datastructure.list.array.QArrayList;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Stack implementation with command query interfaces and
+ * in favour of composition over inheritance,
+ * {@code ArrayList} preferred as the internal data structure
+ * <p/>
+ * Values are kept in a contiguous array, the bottom of the stack is the first
+ * element of the array and the top is the last one, so push and remove
+ * do not allocate nodes and do not move the other values.
+ * Index 0 is still the top of the stack, as in {@code Stack}.
+ * <p/>
+ * <code>
+ * <pre>
+ * push 1, push 2, push 3
+ * array  [1]-[2]-[3]-*-*
+ * index   2   1   0
+ * </pre>
+ * </code>
+ *
+ * @param <T> parametrized type
+ * @see Stack
+ */
+public final class ArrayStack<T> implements QStack<T>, CStack<T>, Iterable<T> {
+
+    /**
+     * internal data structure of stack
+     */
+    private ArrayList<T> arrayList;
+
+    /**
+     * Iterable, reverse iteration of the array starts from the top
+     */
+    private ArrayIterable<T> iterable;
+
+    /**
+     * Query collection
+     */
+    private QArrayList<T> queryCollection;
+
+    /**
+     * Command collection
+     */
+    private CArrayList<T> commandCollection;
+
+    public ArrayStack() {
+        this(new ArrayList<>());
+    }
+
+    public ArrayStack(int initialCapacity) {
+        this(new ArrayList<>(initialCapacity));
+    }
+
+    private ArrayStack(ArrayList<T> arrayList) {
+        this.arrayList = arrayList;
+        this.iterable = arrayList;
+        this.queryCollection = arrayList;
+        this.commandCollection = arrayList;
+    }
+
+    /**
+     * adds the value to the top
+     *
+     * @param value of type T
+     */
+    @Override
+    public void push(T value) {
+        commandCollection.add(value);
+    }
+
+    /**
+     * removes the top value
+     */
+    @Override
+    public void remove() {
+        this.remove(0);
+    }
+
+    /**
+     * removes the value at index, does nothing if the index is not within the stack
+     *
+     * @param index int value index
+     */
+    @Override
+    public void remove(int index) {
+        if (index >= 0) {
+            commandCollection.remove(toArrayIndex(index));
+        }
+    }
+
+    /**
+     * removes the value
+     *
+     * @param value to be removed
+     */
+    @Override
+    public void remove(T value) {
+        commandCollection.remove(value);
+    }
+
+    /**
+     * removes all elements from stack
+     */
+    @Override
+    public void clear() {
+        commandCollection.clear();
+    }
+
+    /**
+     * returns the top element of the stack
+     *
+     * @return Maybe of T
+     */
+    @Override
+    public Maybe<T> peek() {
+        return this.get(0);
+    }
+
+    /**
+     * returns the top element of the stack without wrapping it
+     *
+     * @param defaultValue value to return if the stack is empty
+     * @return top element or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        return this.getOrDefault(0, defaultValue);
+    }
+
+    /**
+     * returns the value at the index
+     *
+     * @param index int value position
+     * @return a maybe of value
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return index >= 0 ? queryCollection.get(toArrayIndex(index)) : Maybe.empty();
+    }
+
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        return index >= 0 ? queryCollection.getOrDefault(toArrayIndex(index), defaultValue) : defaultValue;
+    }
+
+    /**
+     * returns the size of the stack
+     *
+     * @return the size of the stack
+     */
+    @Override
+    public int getSize() {
+        return queryCollection.getSize();
+    }
+
+    /**
+     * returns the size
+     *
+     * @param value value to search
+     * @return returns the size
+     */
+    @Override
+    public boolean contains(T value) {
+        return queryCollection.contains(value);
+    }
+
+    /**
+     * returns if the stack is empty
+     *
+     * @return returns if the stack is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return queryCollection.getSize() == 0;
+    }
+
+    /**
+     * returns the iterator, iterates from top to bottom
+     *
+     * @return returns the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return iterable.reverseIterator();
+    }
+
+    /**
+     * returns a sized spliterator from top to bottom, the array is split in halves so parallel streams are balanced
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return arrayList.reverseSpliterator();
+    }
+
+    /**
+     * performs the action for each value from top to bottom
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = queryCollection.getSize() - 1; i >= 0; i--) {
+            action.accept(queryCollection.getOrDefault(i, null));
+        }
+    }
+
+    /**
+     * converts the stack index to the array index, index 0 is the last element of the array
+     *
+     * @param index stack index
+     * @return array index
+     */
+    private int toArrayIndex(int index) {
+        return queryCollection.getSize() - 1 - index;
+    }
+
+}
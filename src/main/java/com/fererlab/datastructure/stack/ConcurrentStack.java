@@ -0,0 +1,358 @@
+package com.fererlab.datastructure.stack;
+
+import com.fererlab.datastructure.iterator.Iterable;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.node.CNode;
+import com.fererlab.datastructure.node.Node;
+import com.fererlab.datastructure.node.QNode;
+import com.fererlab.datastructure.util.Maybe;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free stack (Treiber stack) with elimination backoff
+ * <p/>
+ * The top node is replaced with a single CAS, a node is never modified after it is pushed,
+ * so a reader that has the top node has a consistent snapshot of the whole stack.
+ * <p/>
+ * When the CAS fails because of contention, the thread does not retry immediately,
+ * it visits a random slot of the elimination array instead. A pushing thread leaves its node in the slot
+ * and waits a few spins, a popping thread takes a node from the slot. Such a push and pop cancel each other
+ * without touching the top, so under high contention most pairs never meet at the top node.
+ * <p/>
+ * <code>
+ * <pre>
+ * push(a) -- CAS fails --> slot[3] = a ... spin ... pop() -- CAS fails --> takes a from slot[3]
+ * </pre>
+ * </code>
+ * <p/>
+ * As explained in {@code Stack}, peek-then-remove is not atomic, two threads may peek the same value
+ * and remove two different ones. That is why this stack has {@code pop} and {@code tryPop} methods which
+ * contradict the command query separation principle, they change the state and return a value.
+ * <p/>
+ * Only the top of the stack can be removed, removing any other index or value is not supported.
+ * Null values are not allowed since null means empty for {@code pop}.
+ *
+ * @param <T> parametrized type
+ */
+public final class ConcurrentStack<T> implements QStack<T>, CStack<T>, Iterable<T> {
+
+    /**
+     * number of spins a pushing thread waits in the elimination slot for a popping thread
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * top node of the stack, null if empty
+     */
+    private final AtomicReference<QNode<T>> top = new AtomicReference<>();
+
+    /**
+     * slots where a pushing thread leaves its node for a popping thread
+     */
+    private final AtomicReferenceArray<QNode<T>> eliminationArray;
+
+    /**
+     * size counter, updated after the top is changed, does not serialize the threads
+     */
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * internal iterator class, iterates a snapshot from the top node
+     */
+    class InternalIterator extends Iterator<T> {
+
+        private QNode<T> nextNode = top.get();
+
+        @Override
+        protected int getSize() {
+            return ConcurrentStack.this.getSize();
+        }
+
+        @Override
+        protected T get(int index) {
+            return ConcurrentStack.this.getOrDefault(index, null);
+        }
+
+        @Override
+        protected void remove(int index) {
+            ConcurrentStack.this.remove(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            T value = nextNode.getValue();
+            nextNode = nextNode.getNext();
+            return value;
+        }
+
+        /**
+         * not supported, the iterator works on a snapshot
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("only the top of the stack can be removed");
+        }
+    }
+
+    public ConcurrentStack() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors() >> 1));
+    }
+
+    /**
+     * creates a stack
+     *
+     * @param eliminationSlots number of slots of the elimination array, about half of the contending threads
+     */
+    public ConcurrentStack(int eliminationSlots) {
+        if (eliminationSlots < 1) {
+            throw new IllegalArgumentException("elimination slots should be greater than 0, eliminationSlots: " + eliminationSlots);
+        }
+        this.eliminationArray = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * adds the value to the top
+     *
+     * @param value of type T, not null
+     */
+    @Override
+    public void push(T value) {
+        if (value == null) {
+            throw new NullPointerException("null values are not allowed");
+        }
+        CNode<T> node = new Node<>();
+        node.setValue(value);
+        while (true) {
+            QNode<T> current = top.get();
+            node.setNext(current);
+            if (top.compareAndSet(current, node)) {
+                size.increment();
+                return;
+            }
+            if (eliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * retrieves and removes the top value atomically
+     *
+     * @return top value, null if the stack is empty
+     */
+    public T pop() {
+        while (true) {
+            QNode<T> current = top.get();
+            if (current == null) {
+                return null;
+            }
+            if (top.compareAndSet(current, current.getNext())) {
+                size.decrement();
+                return current.getValue();
+            }
+            QNode<T> eliminated = eliminatePop();
+            if (eliminated != null) {
+                return eliminated.getValue();
+            }
+        }
+    }
+
+    /**
+     * tries to retrieve and remove the top value with a single attempt, does not retry on contention
+     *
+     * @return Maybe of top value, empty if the stack is empty or another thread changed the top meanwhile
+     */
+    public Maybe<T> tryPop() {
+        QNode<T> current = top.get();
+        if (current != null && top.compareAndSet(current, current.getNext())) {
+            size.decrement();
+            return Maybe.create(current.getValue());
+        }
+        return Maybe.empty();
+    }
+
+    /**
+     * removes the top value
+     */
+    @Override
+    public void remove() {
+        pop();
+    }
+
+    /**
+     * removes the top value if the index is 0
+     *
+     * @param index int value index
+     * @throws UnsupportedOperationException if the index is not 0
+     */
+    @Override
+    public void remove(int index) {
+        if (index != 0) {
+            throw new UnsupportedOperationException("only the top of the stack can be removed");
+        }
+        pop();
+    }
+
+    /**
+     * not supported, only the top of the stack can be removed
+     *
+     * @param value to be removed
+     */
+    @Override
+    public void remove(T value) {
+        throw new UnsupportedOperationException("only the top of the stack can be removed");
+    }
+
+    /**
+     * removes all elements atomically, values pushed after this call are kept
+     */
+    @Override
+    public void clear() {
+        QNode<T> current = top.getAndSet(null);
+        for (; current != null; current = current.getNext()) {
+            size.decrement();
+        }
+    }
+
+    /**
+     * returns the top element of the stack
+     *
+     * @return Maybe of T
+     */
+    @Override
+    public Maybe<T> peek() {
+        return Maybe.create(peekOrDefault(null));
+    }
+
+    /**
+     * returns the top element of the stack without wrapping it
+     *
+     * @param defaultValue value to return if the stack is empty
+     * @return top element or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        QNode<T> current = top.get();
+        return current != null ? current.getValue() : defaultValue;
+    }
+
+    /**
+     * returns the value at the index of a snapshot from the top
+     *
+     * @param index int value position
+     * @return a maybe of value
+     */
+    @Override
+    public Maybe<T> get(int index) {
+        return Maybe.create(getOrDefault(index, null));
+    }
+
+    /**
+     * returns the value at the index of a snapshot from the top without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        if (index < 0) {
+            return defaultValue;
+        }
+        QNode<T> current = top.get();
+        for (int i = 0; i < index && current != null; i++) {
+            current = current.getNext();
+        }
+        return current != null ? current.getValue() : defaultValue;
+    }
+
+    /**
+     * returns the size of the stack, weakly consistent
+     *
+     * @return the size of the stack
+     */
+    @Override
+    public int getSize() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * returns true if the value exists in a snapshot from the top
+     *
+     * @param value value to search
+     * @return true if the value exists
+     */
+    @Override
+    public boolean contains(T value) {
+        for (QNode<T> current = top.get(); current != null; current = current.getNext()) {
+            if (current.getValue().equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * returns if the stack is empty
+     *
+     * @return returns if the stack is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * returns the iterator of a snapshot, iterates from top to bottom
+     *
+     * @return returns the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InternalIterator();
+    }
+
+    /**
+     * leaves the node in a random slot and waits for a popping thread to take it
+     *
+     * @param node node to be pushed
+     * @return true if a popping thread took the node
+     */
+    private boolean eliminatePush(QNode<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        if (!eliminationArray.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationArray.get(slot) != node) {
+                return true;
+            }
+        }
+        // withdraw the node, if it is already taken the push is done
+        return !eliminationArray.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * takes a node from a random slot if a pushing thread left one
+     *
+     * @return the node of the pushing thread, null if there is none
+     */
+    private QNode<T> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        QNode<T> node = eliminationArray.get(slot);
+        if (node != null && eliminationArray.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+
+}
@@ -7,6 +7,8 @@ public interface QStack<T> extends QCollection<T> {
 
     Maybe<T> peek();
 
+    T peekOrDefault(T defaultValue);
+
     int getSize();
 
     boolean contains(T value);
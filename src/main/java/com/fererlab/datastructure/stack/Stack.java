@@ -7,6 +7,9 @@ import com.fererlab.datastructure.iterator.Iterator;
 import com.fererlab.datastructure.list.linked.LinkedList;
 import com.fererlab.datastructure.util.Maybe;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 /**
  * Stack implementation with command query interfaces and
  * in favour of composition over inheritance,
@@ -115,6 +118,17 @@ public final class Stack<T> implements QStack<T>, CStack<T>, Iterable<T> {
         return queryCollection.get(0);
     }
 
+    /**
+     * returns the top element of the stack without wrapping it
+     *
+     * @param defaultValue value to return if the stack is empty
+     * @return top element or default value
+     */
+    @Override
+    public T peekOrDefault(T defaultValue) {
+        return queryCollection.getOrDefault(0, defaultValue);
+    }
+
     /**
      * returns the value at the index
      *
@@ -126,6 +140,18 @@ public final class Stack<T> implements QStack<T>, CStack<T>, Iterable<T> {
         return queryCollection.get(index);
     }
 
+    /**
+     * returns the value at the index without wrapping it
+     *
+     * @param index        int value position
+     * @param defaultValue value to return if there is no value at index
+     * @return value at index or default value
+     */
+    @Override
+    public T getOrDefault(int index, T defaultValue) {
+        return queryCollection.getOrDefault(index, defaultValue);
+    }
+
     /**
      * returns the size of the stack
      *
@@ -166,4 +192,24 @@ public final class Stack<T> implements QStack<T>, CStack<T>, Iterable<T> {
     public Iterator<T> iterator() {
         return iterable.iterator();
     }
+
+    /**
+     * returns a spliterator from top to bottom
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return iterable.spliterator();
+    }
+
+    /**
+     * performs the action for each value from top to bottom
+     *
+     * @param action Consumer action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        iterable.forEach(action);
+    }
 }
@@ -1,39 +1,35 @@
 package com.fererlab.datastructure.util;
 
 /**
- * utility class Maybe, simple object wrapper to prevent null pointer exceptions
+ * utility class Maybe, simple immutable object wrapper to prevent null pointer exceptions
+ * <p/>
+ * there is only one empty instance, {@code empty()} and {@code create(null)} return it without allocating
  *
  * @param <T>
  */
-public class Maybe<T> {
+public final class Maybe<T> {
 
     /**
-     * internal object
+     * shared empty state {}
      */
-    private T object;
+    private static final Maybe<?> EMPTY = new Maybe<>(null);
 
     /**
-     * empty state {}
+     * internal object
      */
-    private boolean empty = true;
+    private final T object;
 
     private Maybe(T object) {
-        this.setObject(object);
-    }
-
-    private void setObject(T object) {
         this.object = object;
-        if (this.object != null) {
-            this.empty = false;
-        }
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Maybe<T> empty() {
-        return new Maybe<>(null);
+        return (Maybe<T>) EMPTY;
     }
 
     public static <T> Maybe<T> create(T t) {
-        return new Maybe<>(t);
+        return t == null ? Maybe.<T>empty() : new Maybe<>(t);
     }
 
     public T get() {
@@ -53,7 +49,7 @@ public class Maybe<T> {
     }
 
     public boolean isEmpty() {
-        return empty;
+        return object == null;
     }
 
 }
@@ -2,13 +2,16 @@ package com.fererlab.datastructure;
 
 import com.fererlab.datastructure.iterator.Iterator;
 import com.fererlab.datastructure.list.array.ArrayList;
+import com.fererlab.datastructure.list.array.FixedStepCapacityPolicy;
 import com.fererlab.datastructure.pojos.PhoneNumber;
 import com.fererlab.datastructure.pojos.User;
+import com.fererlab.datastructure.util.Maybe;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Date;
+import java.util.stream.Collectors;
 
 public class ArrayListTester {
 
@@ -235,4 +238,188 @@ public class ArrayListTester {
         Assert.assertEquals(list.getSize(), 0);
     }
 
+    @Test
+    public void capacityPolicyTest() {
+
+        ArrayList<Integer> list = new ArrayList<>(4);
+        Assert.assertEquals(list.getCapacity(), 4);
+
+        // capacity should grow geometrically, not by the initial capacity
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        Assert.assertEquals(list.getSize(), 1000);
+        Assert.assertTrue(list.getCapacity() >= 1000);
+        Assert.assertTrue(list.getCapacity() < 1500);
+
+        // removing down to half should not shrink, hysteresis
+        int capacity = list.getCapacity();
+        while (list.getSize() > capacity / 2) {
+            list.remove(list.getSize() - 1);
+        }
+        Assert.assertEquals(list.getCapacity(), capacity);
+
+        // removing down to a quarter should shrink
+        while (list.getSize() > capacity / 4 - 1) {
+            list.remove(list.getSize() - 1);
+        }
+        Assert.assertTrue(list.getCapacity() < capacity);
+
+        // values should be preserved after shrink
+        for (int i = 0; i < list.getSize(); i++) {
+            Assert.assertEquals(list.get(i).get(), Integer.valueOf(i));
+        }
+
+        // clear keeps the array, trim releases it
+        capacity = list.getCapacity();
+        list.clear();
+        Assert.assertEquals(list.getCapacity(), capacity);
+        Assert.assertFalse(list.contains(0));
+        list.trimToSize();
+        Assert.assertEquals(list.getCapacity(), 0);
+
+        // list should be usable after trimming to zero
+        list.add(1);
+        Assert.assertEquals(list.get(0).get(), Integer.valueOf(1));
+    }
+
+    @Test
+    public void ensureCapacityTest() {
+
+        ArrayList<Integer> list = new ArrayList<>(2, new FixedStepCapacityPolicy(2));
+        list.ensureCapacity(100);
+        Assert.assertTrue(list.getCapacity() >= 100);
+
+        // no grow should happen while adding within the ensured capacity
+        int capacity = list.getCapacity();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Assert.assertEquals(list.getCapacity(), capacity);
+
+        // fixed step policy never shrinks
+        while (list.getSize() > 0) {
+            list.remove(0);
+        }
+        Assert.assertEquals(list.getCapacity(), capacity);
+
+        list.add(1);
+        list.trimToSize();
+        Assert.assertEquals(list.getCapacity(), 1);
+    }
+
+    @Test
+    public void getOrDefaultTest() {
+
+        list.add(testValueOne);
+        list.add(testValueTwo);
+
+        // values within the list are returned without a Maybe
+        Assert.assertEquals(list.getOrDefault(0, testValueSix), testValueOne);
+        Assert.assertEquals(list.getOrDefault(1, testValueSix), testValueTwo);
+        Assert.assertTrue(list.isPresentAt(1));
+
+        // out of index returns the default value
+        Assert.assertEquals(list.getOrDefault(2, testValueSix), testValueSix);
+        Assert.assertEquals(list.getOrDefault(-1, testValueSix), testValueSix);
+        Assert.assertFalse(list.isPresentAt(2));
+        Assert.assertFalse(list.isPresentAt(-1));
+
+        // empty Maybe is shared
+        Assert.assertSame(list.get(99), Maybe.empty());
+        Assert.assertSame(Maybe.create(null), Maybe.empty());
+    }
+
+    @Test
+    public void streamTest() {
+
+        ArrayList<Integer> list = new ArrayList<>(3);
+        for (int i = 1; i <= 10000; i++) {
+            list.add(i);
+        }
+
+        // parallel stream should see every value once
+        Assert.assertEquals(list.parallelStream().mapToLong(Integer::longValue).sum(), 50005000L);
+        Assert.assertEquals(list.stream().count(), 10000L);
+
+        // order is preserved
+        Assert.assertEquals(list.parallelStream().limit(3).collect(Collectors.toList()).toString(), "[1, 2, 3]");
+    }
+
+    @Test
+    public void bulkOperationsTest() {
+
+        ArrayList<Integer> list = new ArrayList<>(3);
+        list.addAll(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+        Assert.assertEquals(list.getSize(), 10);
+
+        ArrayList<Integer> other = new ArrayList<>();
+        other.addAll(list);
+        Assert.assertEquals(other.getSize(), 10);
+        list.addAll(other);
+        Assert.assertEquals(list.getSize(), 20);
+
+        // remove(T) removes all the matching values
+        list.remove(Integer.valueOf(9));
+        Assert.assertEquals(list.getSize(), 18);
+        Assert.assertFalse(list.contains(9));
+
+        // remove even values
+        list.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,1,3,5,7");
+
+        // remove range, out of index part is ignored
+        list.removeRange(6, 99);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,1,3");
+        list.removeRange(1, 3);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,7,1,3");
+
+        // remove all and retain all
+        ArrayList<Integer> ones = new ArrayList<>();
+        ones.add(1);
+        list.removeAll(ones);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "7,3");
+        other.retainAll(ones);
+        Assert.assertEquals(other.getSize(), 1);
+        Assert.assertEquals(other.get(0).get(), Integer.valueOf(1));
+    }
+
+    @Test
+    public void addAllSelfTest() {
+
+        // adding the list to itself should copy the current values once
+        ArrayList<Integer> list = new ArrayList<>(2);
+        list.add(1);
+        list.add(2);
+        list.addAll(list);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,2,1,2");
+    }
+
+    @Test
+    public void removeIfThrowingFilterTest() {
+
+        // the filter fails on its tenth value, no value should be removed or moved
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        int[] tested = {0};
+        try {
+            list.removeIf(value -> {
+                if (++tested[0] == 10) {
+                    throw new IllegalStateException("filter failed");
+                }
+                return value % 2 == 0;
+            });
+            Assert.fail("filter exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(list.getSize(), 20);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+
+        list.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(list.getSize(), 10);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9,11,13,15,17,19");
+    }
 }
@@ -0,0 +1,100 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.stack.ArrayStack;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * tests the array specific behaviour of {@code ArrayStack}, the stack contract is the one tested in {@code StackTester}
+ */
+public class ArrayStackTester {
+
+    private ArrayStack<Integer> stack;
+
+    @Before
+    public void prepare() {
+        // create stack with a small array so that it grows
+        stack = new ArrayStack<>(2);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Test
+    public void topIndexTest() {
+
+        // index 0 is the top of the stack
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(stack.get(i).get(), Integer.valueOf(99 - i));
+        }
+        Assert.assertTrue(stack.get(100).isEmpty());
+        Assert.assertTrue(stack.get(-1).isEmpty());
+        Assert.assertEquals(stack.getOrDefault(100, -1), Integer.valueOf(-1));
+
+        // iterator should start from the top
+        Iterator<Integer> iterator = stack.iterator();
+        int expected = 99;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next(), Integer.valueOf(expected--));
+        }
+
+        // remove from the middle
+        stack.remove(10);
+        Assert.assertEquals(stack.get(10).get(), Integer.valueOf(88));
+
+        // pop all
+        while (!stack.isEmpty()) {
+            stack.remove();
+        }
+        Assert.assertTrue(stack.peek().isEmpty());
+    }
+
+    @Test
+    public void iteratorRemoveTest() {
+
+        // removing through the reverse iterator should not skip values
+        Iterator<Integer> iterator = stack.iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            visited++;
+            if (value % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(visited, 100);
+        Assert.assertEquals(stack.getSize(), 50);
+
+        // remaining values should keep their order, top is the last odd value
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(stack.get(i).get(), Integer.valueOf(99 - 2 * i));
+        }
+    }
+
+    @Test
+    public void spliteratorTest() {
+
+        // spliterator should be sized and split the array in halves
+        Spliterator<Integer> spliterator = stack.spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assert.assertEquals(spliterator.estimateSize(), 100);
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(prefix.estimateSize(), 50);
+        Assert.assertEquals(spliterator.estimateSize(), 50);
+
+        // the prefix should hold the top half of the stack
+        prefix.tryAdvance(value -> Assert.assertEquals(value, Integer.valueOf(99)));
+        spliterator.tryAdvance(value -> Assert.assertEquals(value, Integer.valueOf(49)));
+
+        // streams should go from top to bottom
+        Assert.assertEquals(stack.stream().findFirst().get(), Integer.valueOf(99));
+        Assert.assertEquals(stack.parallelStream().collect(Collectors.toList()).get(0), Integer.valueOf(99));
+        Assert.assertEquals(stack.parallelStream().mapToLong(Integer::longValue).sum(), 4950L);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.list.array.ArrayList;
+import com.fererlab.datastructure.queue.BlockingQueue;
+import com.fererlab.datastructure.queue.SpscArrayQueue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BlockingQueueTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    private BlockingQueue<String> queue;
+
+    @Before
+    public void prepare() {
+        // create bounded queue
+        queue = new BlockingQueue<>(2);
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(queue.getSize(), 0);
+        Assert.assertNull(queue.poll());
+        Assert.assertTrue(queue.peek().isEmpty());
+    }
+
+    @Test
+    public void offerPollTimeoutTest() throws Exception {
+
+        Assert.assertTrue(queue.offer(testValueOne));
+        Assert.assertTrue(queue.offer(testValueTwo, 10, TimeUnit.MILLISECONDS));
+
+        // queue is full, timed offer should give up
+        Assert.assertFalse(queue.offer(testValueThree, 10, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(queue.getSize(), 2);
+
+        Assert.assertEquals(queue.take(), testValueOne);
+        Assert.assertEquals(queue.poll(10, TimeUnit.MILLISECONDS), testValueTwo);
+
+        // queue is empty, timed poll should give up
+        Assert.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void drainToTest() throws Exception {
+
+        BlockingQueue<Integer> queue = new BlockingQueue<>();
+        for (int i = 0; i < 100; i++) {
+            queue.put(i);
+        }
+
+        ArrayList<Integer> target = new ArrayList<>();
+        Assert.assertEquals(queue.drainTo(target, 60), 60);
+        Assert.assertEquals(queue.getSize(), 40);
+        Assert.assertEquals(queue.peek().get(), Integer.valueOf(60));
+
+        Assert.assertEquals(queue.drainTo(target, Integer.MAX_VALUE), 40);
+        Assert.assertEquals(target.getSize(), 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(target.get(i).get(), Integer.valueOf(i));
+        }
+    }
+
+    @Test
+    public void drainToFailingTargetTest() throws Exception {
+
+        BlockingQueue<Integer> queue = new BlockingQueue<>();
+        for (int i = 0; i < 10; i++) {
+            queue.put(i);
+        }
+
+        // negative count should move nothing
+        Assert.assertEquals(queue.drainTo(new ArrayList<>(), -1), 0);
+        Assert.assertEquals(queue.getSize(), 10);
+
+        // a bounded target throws after four values, they should not stay in the queue
+        SpscArrayQueue<Integer> target = new SpscArrayQueue<>(4);
+        try {
+            queue.drainTo(target, 10);
+            Assert.fail("full target should throw");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(target.getSize(), 4);
+        Assert.assertEquals(queue.getSize(), 6);
+        Assert.assertEquals(queue.peek().get(), Integer.valueOf(4));
+    }
+
+    @Test
+    public void producerConsumerTest() throws Exception {
+
+        final int threads = 4;
+        final int valuesPerProducer = 50000;
+        final BlockingQueue<Integer> queue = new BlockingQueue<>(64);
+        final AtomicLong sum = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(threads * 2);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    for (int i = 1; i <= valuesPerProducer; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }).start();
+            new Thread(() -> {
+                try {
+                    // each consumer takes as many values as a producer puts
+                    ArrayList<Integer> batch = new ArrayList<>();
+                    int taken = 0;
+                    while (taken < valuesPerProducer) {
+                        Integer value = queue.take();
+                        sum.addAndGet(value);
+                        taken++;
+                        batch.clear();
+                        int drained = queue.drainTo(batch, valuesPerProducer - taken);
+                        batch.forEach(sum::addAndGet);
+                        taken += drained;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }).start();
+        }
+        Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        // every value should be consumed exactly once
+        Assert.assertEquals(sum.get(), threads * ((long) valuesPerProducer * (valuesPerProducer + 1) / 2));
+        Assert.assertEquals(queue.getSize(), 0);
+    }
+
+}
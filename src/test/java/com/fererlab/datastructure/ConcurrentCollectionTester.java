@@ -0,0 +1,182 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.collection.ConcurrentCollection;
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.array.ArrayList;
+import com.fererlab.datastructure.list.linked.LinkedList;
+import com.fererlab.datastructure.queue.Queue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentCollectionTester {
+
+    @Test
+    public void addRemoveValueTest() {
+
+        ConcurrentCollection<String, ArrayList<String>> list = new ConcurrentCollection<>(new ArrayList<>());
+        list.add("Value One");
+        list.addAll(new String[]{"Value Two", "Value Three"});
+        Assert.assertEquals(list.getSize(), 3);
+        Assert.assertTrue(list.contains("Value Two"));
+        Assert.assertEquals(list.get(2).get(), "Value Three");
+
+        list.remove("Value Two");
+        Assert.assertFalse(list.contains("Value Two"));
+
+        // index out of range, this should NOT raise an exception!!!
+        list.remove(99);
+        Assert.assertTrue(list.get(99).isEmpty());
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+    }
+
+    @Test(timeout = 10000)
+    public void addAllSelfTest() {
+
+        // adding the collection to itself should not wait for its own lock
+        ConcurrentCollection<String, ArrayList<String>> list = new ConcurrentCollection<>(new ArrayList<>());
+        list.addAll(new String[]{"Value One", "Value Two"});
+        list.addAll(list);
+        Assert.assertEquals(list.getSize(), 4);
+        Assert.assertEquals(list.get(3).get(), "Value Two");
+    }
+
+    @Test
+    public void readWriteTest() {
+
+        ConcurrentCollection<String, Queue<String>> queue = new ConcurrentCollection<>(new Queue<>());
+        queue.add("first");
+        queue.add("second");
+
+        // operations of the decorated queue
+        Assert.assertEquals(queue.read(q -> q.peekOrDefault(null)), "first");
+        queue.write(q -> q.remove(0));
+        Assert.assertEquals(queue.read(q -> q.peekOrDefault(null)), "second");
+    }
+
+    @Test
+    public void snapshotIteratorTest() {
+
+        ConcurrentCollection<Integer, LinkedList<Integer>> list = new ConcurrentCollection<>(new LinkedList<>());
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        list.clear();
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        Assert.assertEquals(count, 5);
+        Assert.assertEquals(list.getSize(), 0);
+    }
+
+    @Test
+    public void concurrentReadersTest() throws Exception {
+
+        ConcurrentCollection<Integer, ArrayList<Integer>> list = new ConcurrentCollection<>(new ArrayList<>(4));
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(4);
+
+        for (int reader = 0; reader < 4; reader++) {
+            new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        // values are added in pairs under one write, a reader sees whole pairs only
+                        int size = list.read(c -> {
+                            int current = c.getSize();
+                            for (int i = 0; i < current; i++) {
+                                if (c.getOrDefault(i, -1) != i) {
+                                    throw new IllegalStateException("value at " + i);
+                                }
+                            }
+                            return current;
+                        });
+                        if (size % 2 != 0 || list.getOrDefault(size - 1, size - 1) != size - 1) {
+                            failed.set(true);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        for (int i = 0; i < 4000; i += 2) {
+            int first = i;
+            list.write(c -> {
+                c.add(first);
+                c.add(first + 1);
+            });
+        }
+        running.set(false);
+        done.await();
+
+        Assert.assertFalse(failed.get());
+        Assert.assertEquals(list.getSize(), 4000);
+        Assert.assertEquals(list.stream().mapToLong(Integer::longValue).sum(), 4000L * 3999 / 2);
+    }
+
+    @Test
+    public void concurrentLinkedListReadersTest() throws Exception {
+
+        // queries by index move the finger of the linked list, readers share the read lock and the finger
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        for (int i = 9999; i >= 0; i--) {
+            linkedList.add(i);
+        }
+        ConcurrentCollection<Integer, LinkedList<Integer>> list = new ConcurrentCollection<>(linkedList);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        CountDownLatch meet = new CountDownLatch(2);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(8);
+
+        for (int reader = 0; reader < 8; reader++) {
+            int offset = reader * 1250;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    // indices jump across the list, so the finger moves far on every read
+                    for (int k = 0; k < 10000; k++) {
+                        int index = (offset + k * 7919) % 10000;
+                        if (list.getOrDefault(index, -1) != index) {
+                            failed.set(true);
+                        }
+                    }
+                    // readers do not wait for each other, two of them should meet inside the lock
+                    list.read(c -> {
+                        meet.countDown();
+                        try {
+                            if (!meet.await(30, TimeUnit.SECONDS)) {
+                                failed.set(true);
+                            }
+                        } catch (InterruptedException e) {
+                            failed.set(true);
+                        }
+                        return c.getOrDefault(offset, -1);
+                    });
+                } catch (RuntimeException | InterruptedException e) {
+                    failed.set(true);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+
+        Assert.assertTrue(done.await(60, TimeUnit.SECONDS));
+        Assert.assertFalse(failed.get());
+        Assert.assertEquals(list.getSize(), 10000);
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.map.ConcurrentHashMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class ConcurrentHashMapTester {
+
+    @Test
+    public void putRemoveTest() {
+
+        ConcurrentHashMap<String, Integer> map = new ConcurrentHashMap<>();
+        Assert.assertEquals(map.getSize(), 0);
+        Assert.assertTrue(map.get("one").isEmpty());
+
+        map.put("one", 1);
+        Assert.assertEquals(map.putIfAbsent("one", 11), Integer.valueOf(1));
+        Assert.assertNull(map.putIfAbsent("two", 2));
+        Assert.assertEquals(map.computeIfAbsent("three", key -> 3), Integer.valueOf(3));
+        Assert.assertEquals(map.computeIfAbsent("three", key -> 33), Integer.valueOf(3));
+        Assert.assertNull(map.computeIfAbsent("four", key -> null));
+        Assert.assertEquals(map.getSize(), 3);
+
+        Assert.assertEquals(map.merge("one", 10, Integer::sum), Integer.valueOf(11));
+        Assert.assertNull(map.merge("two", 2, (a, b) -> null));
+        Assert.assertFalse(map.containsKey("two"));
+
+        map.remove("one");
+        map.remove("missing");
+        Assert.assertEquals(map.getSize(), 1);
+        Assert.assertEquals(map.getOrDefault("three", -1), Integer.valueOf(3));
+
+        map.clear();
+        Assert.assertEquals(map.getSize(), 0);
+        Assert.assertFalse(map.containsKey("three"));
+    }
+
+    @Test
+    public void growTest() {
+
+        // keys added to empty bins do not check the threshold, the map should still grow close to it
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>(2);
+        for (int key = 0; key < 100000; key++) {
+            map.put(key, key);
+            Assert.assertTrue(map.getSize() <= map.getCapacity());
+        }
+        Assert.assertEquals(map.getSize(), 100000);
+        Assert.assertEquals(map.getCapacity(), 262144);
+        for (int key = 0; key < 100000; key++) {
+            Assert.assertEquals(map.getOrDefault(key, -1), Integer.valueOf(key));
+        }
+    }
+
+    @Test
+    public void staleTransferTest() throws Exception {
+
+        // a writer may publish a transfer of a table that was replaced meanwhile, it should not move any bins
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>(2);
+        Field table = ConcurrentHashMap.class.getDeclaredField("table");
+        Field transfer = ConcurrentHashMap.class.getDeclaredField("transfer");
+        table.setAccessible(true);
+        transfer.setAccessible(true);
+        Object staleTable = table.get(map);
+        for (int key = 0; key < 100; key++) {
+            map.put(key, key);
+        }
+        Assert.assertNotSame(table.get(map), staleTable);
+        int capacity = map.getCapacity();
+
+        Class<?> transferClass = Class.forName(ConcurrentHashMap.class.getName() + "$Transfer");
+        Constructor<?> constructor = transferClass.getDeclaredConstructor(ConcurrentHashMap.class, AtomicReferenceArray.class);
+        constructor.setAccessible(true);
+        Object staleTransfer = constructor.newInstance(map, staleTable);
+        @SuppressWarnings("unchecked")
+        AtomicReference<Object> current = (AtomicReference<Object>) transfer.get(map);
+        current.set(staleTransfer);
+        Method help = transferClass.getDeclaredMethod("help");
+        help.setAccessible(true);
+        help.invoke(staleTransfer);
+
+        Assert.assertNull(current.get());
+        Assert.assertEquals(map.getCapacity(), capacity);
+        for (int key = 0; key < 100; key++) {
+            Assert.assertEquals(map.getOrDefault(key, -1), Integer.valueOf(key));
+        }
+
+        // the map still grows after the stale transfer is cleared
+        for (int key = 100; key < 1000; key++) {
+            map.put(key, key);
+        }
+        Assert.assertTrue(map.getCapacity() > capacity);
+        Assert.assertEquals(map.getSize(), 1000);
+        for (int key = 0; key < 1000; key++) {
+            Assert.assertEquals(map.getOrDefault(key, -1), Integer.valueOf(key));
+        }
+    }
+
+    @Test
+    public void sameAsJavaHashMapTest() {
+
+        Random random = new Random(42);
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>(2);
+        java.util.Map<Integer, Integer> javaMap = new java.util.HashMap<>();
+
+        for (int step = 0; step < 50000; step++) {
+            int key = random.nextInt(2000) * 64;
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                map.put(key, step);
+                javaMap.put(key, step);
+            } else if (operation == 1) {
+                map.remove(key);
+                javaMap.remove(key);
+            } else if (operation == 2) {
+                map.merge(key, 1, Integer::sum);
+                javaMap.merge(key, 1, Integer::sum);
+            } else {
+                Assert.assertEquals(map.getOrDefault(key, -1), javaMap.getOrDefault(key, -1));
+            }
+            Assert.assertEquals(map.getSize(), javaMap.size());
+        }
+
+        long[] sum = new long[1];
+        map.forEach((key, value) -> sum[0] += key + value);
+        Assert.assertEquals(sum[0], javaMap.entrySet().stream().mapToLong(e -> e.getKey() + e.getValue()).sum());
+    }
+
+    @Test
+    public void concurrentWritersTest() throws Exception {
+
+        int threads = 4;
+        int keys = 20000;
+        ConcurrentHashMap<Integer, Integer> counts = new ConcurrentHashMap<>();
+        ConcurrentHashMap<Integer, Integer> computed = new ConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // every thread adds every key, the map grows while they write
+                for (int key = 0; key < keys; key++) {
+                    counts.merge(key, 1, Integer::sum);
+                    computed.computeIfAbsent(key, k -> {
+                        calls.incrementAndGet();
+                        return k * 2;
+                    });
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        Assert.assertEquals(counts.getSize(), keys);
+        Assert.assertEquals(computed.getSize(), keys);
+        // the function is called once per key
+        Assert.assertEquals(calls.get(), keys);
+        for (int key = 0; key < keys; key++) {
+            Assert.assertEquals(counts.getOrDefault(key, -1), Integer.valueOf(threads));
+            Assert.assertEquals(computed.getOrDefault(key, -1), Integer.valueOf(key * 2));
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.stack.ConcurrentStack;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConcurrentStackTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    private ConcurrentStack<String> stack;
+
+    @Before
+    public void prepare() {
+        // create stack
+        stack = new ConcurrentStack<>();
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(stack.getSize(), 0);
+        Assert.assertTrue(stack.isEmpty());
+        Assert.assertNull(stack.pop());
+        Assert.assertTrue(stack.tryPop().isEmpty());
+    }
+
+    @Test
+    public void pushPopTest() {
+
+        stack.push(testValueOne);
+        stack.push(testValueTwo);
+        stack.push(testValueThree);
+        Assert.assertEquals(stack.getSize(), 3);
+        Assert.assertTrue(stack.contains(testValueOne));
+        Assert.assertEquals(stack.peek().get(), testValueThree);
+        Assert.assertEquals(stack.get(2).get(), testValueOne);
+
+        // iterator works on a snapshot from top to bottom
+        Iterator<String> iterator = stack.iterator();
+        stack.push(testValueOne);
+        Assert.assertEquals(iterator.next(), testValueThree);
+        Assert.assertEquals(iterator.next(), testValueTwo);
+        Assert.assertEquals(iterator.next(), testValueOne);
+        Assert.assertFalse(iterator.hasNext());
+
+        Assert.assertEquals(stack.pop(), testValueOne);
+        Assert.assertEquals(stack.tryPop().get(), testValueThree);
+        stack.remove();
+        Assert.assertEquals(stack.getSize(), 1);
+
+        stack.clear();
+        Assert.assertEquals(stack.getSize(), 0);
+        Assert.assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void concurrentPushPopTest() throws Exception {
+
+        final int threads = 8;
+        final int valuesPerThread = 100000;
+        // a single elimination slot so that push and pop pairs meet often
+        final ConcurrentStack<Integer> stack = new ConcurrentStack<>(1);
+        final AtomicLong sum = new AtomicLong();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    long localSum = 0;
+                    for (int i = 1; i <= valuesPerThread; i++) {
+                        stack.push(i);
+                        Integer value = stack.pop();
+                        // there is at least one value, the one this thread pushed or an older one
+                        if (value == null) {
+                            failed.set(true);
+                            return;
+                        }
+                        localSum += value;
+                    }
+                    sum.addAndGet(localSum);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+        Assert.assertFalse(failed.get());
+
+        // every pushed value should be popped exactly once
+        Assert.assertEquals(sum.get(), threads * ((long) valuesPerThread * (valuesPerThread + 1) / 2));
+        Assert.assertTrue(stack.isEmpty());
+        Assert.assertEquals(stack.getSize(), 0);
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.array.CopyOnWriteArrayList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+public class CopyOnWriteArrayListTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    // list reference to test
+    private CopyOnWriteArrayList<String> list;
+
+    @Before
+    public void prepare() {
+        // create empty list
+        list = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void addRemoveValueTest() {
+
+        // initial size should be zero
+        Assert.assertEquals(list.getSize(), 0);
+
+        list.add(testValueOne);
+        list.addAll(new String[]{testValueTwo, testValueThree});
+        Assert.assertEquals(list.getSize(), 3);
+        Assert.assertEquals(list.getCapacity(), 3);
+        Assert.assertEquals(list.get(1).get(), testValueTwo);
+
+        list.remove(testValueTwo);
+        Assert.assertFalse(list.contains(testValueTwo));
+        list.remove(0);
+        Assert.assertEquals(list.get(0).get(), testValueThree);
+
+        // index out of range, this should NOT raise an exception!!!
+        list.remove(99);
+        Assert.assertTrue(list.get(99).isEmpty());
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+    }
+
+    @Test
+    public void snapshotIteratorTest() {
+
+        list.addAll(new String[]{testValueOne, testValueTwo, testValueThree});
+        Iterator<String> iterator = list.iterator();
+        Iterator<String> reverseIterator = list.reverseIterator();
+
+        // changes after the iterator is created are not seen by it
+        list.clear();
+        list.add("Value Four");
+
+        Assert.assertEquals(iterator.next(), testValueOne);
+        Assert.assertEquals(iterator.next(), testValueTwo);
+        Assert.assertEquals(iterator.next(), testValueThree);
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(reverseIterator.next(), testValueThree);
+
+        try {
+            iterator.remove();
+            Assert.fail("snapshot iterator should not remove");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals(list.getSize(), 1);
+    }
+
+    @Test
+    public void mutateTest() {
+
+        list.addAll(new String[]{"a", "b", "c", "d"});
+        list.mutate(copy -> {
+            copy.remove(0);
+            copy.add("e");
+            copy.removeIf(value -> value.equals("c"));
+        });
+        Assert.assertEquals(list.stream().collect(Collectors.joining(",")), "b,d,e");
+        Assert.assertEquals(list.getCapacity(), 3);
+    }
+
+    @Test
+    public void concurrentReadersTest() throws Exception {
+
+        CopyOnWriteArrayList<Integer> numbers = new CopyOnWriteArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(4);
+
+        for (int reader = 0; reader < 4; reader++) {
+            new Thread(() -> {
+                while (running.get()) {
+                    // a batch is published at once, readers see an even number of values in order
+                    int size = 0;
+                    for (Iterator<Integer> iterator = numbers.iterator(); iterator.hasNext(); size++) {
+                        if (iterator.next() != size) {
+                            failed.set(true);
+                        }
+                    }
+                    if (size % 2 != 0) {
+                        failed.set(true);
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        for (int i = 0; i < 2000; i += 2) {
+            int first = i;
+            numbers.mutate(copy -> {
+                copy.add(first);
+                copy.add(first + 1);
+            });
+        }
+        running.set(false);
+        done.await();
+
+        Assert.assertFalse(failed.get());
+        Assert.assertEquals(numbers.getSize(), 2000);
+        Assert.assertEquals(numbers.get(1999).get(), Integer.valueOf(1999));
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.array.HashIndexedArrayList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class HashIndexedArrayListTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    // list reference to test
+    private HashIndexedArrayList<String> list;
+
+    @Before
+    public void prepare() {
+        // create empty list
+        list = new HashIndexedArrayList<>(2);
+    }
+
+    @Test
+    public void addRemoveValueTest() {
+
+        // initial size should be zero
+        Assert.assertEquals(list.getSize(), 0);
+
+        list.add(testValueOne);
+        list.add(testValueTwo);
+        list.add(testValueThree);
+        list.add(testValueTwo);
+        Assert.assertEquals(list.getSize(), 4);
+        Assert.assertTrue(list.contains(testValueTwo));
+
+        // all the matching values are removed, order is kept
+        list.remove(testValueTwo);
+        Assert.assertEquals(list.getSize(), 2);
+        Assert.assertFalse(list.contains(testValueTwo));
+        Assert.assertEquals(list.get(0).get(), testValueOne);
+        Assert.assertEquals(list.get(1).get(), testValueThree);
+
+        // index out of range, this should NOT raise an exception!!!
+        list.remove(99);
+        Assert.assertTrue(list.get(99).isEmpty());
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertFalse(list.contains(testValueOne));
+    }
+
+    @Test
+    public void iteratorTest() {
+
+        for (int i = 0; i < 10; i++) {
+            list.add(String.valueOf(i));
+        }
+        Iterator<String> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (Integer.parseInt(iterator.next()) % 3 == 0) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(list.stream().collect(Collectors.joining(",")), "1,2,4,5,7,8");
+        Assert.assertFalse(list.contains("3"));
+
+        Iterator<String> reverseIterator = list.reverseIterator();
+        Assert.assertEquals(reverseIterator.next(), "8");
+        reverseIterator.remove();
+        Assert.assertEquals(reverseIterator.next(), "7");
+
+        list.trimToSize();
+        Assert.assertEquals(list.getCapacity(), 5);
+        Assert.assertEquals(list.get(4).get(), "7");
+    }
+
+    @Test
+    public void addAllSelfTest() {
+
+        // adding the list to itself should copy the current values once, holes are skipped
+        HashIndexedArrayList<Integer> numbers = new HashIndexedArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+        numbers.remove(Integer.valueOf(5));
+        numbers.addAll(numbers);
+        Assert.assertEquals(numbers.getSize(), 18);
+        Assert.assertEquals(numbers.get(9).get(), Integer.valueOf(0));
+        Assert.assertEquals(numbers.get(17).get(), Integer.valueOf(9));
+        Assert.assertFalse(numbers.contains(5));
+    }
+
+    @Test
+    public void sameAsArrayListTest() {
+
+        Random random = new Random(42);
+        HashIndexedArrayList<Integer> indexed = new HashIndexedArrayList<>();
+        java.util.List<Integer> arrayList = new java.util.ArrayList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(20);
+            int value = random.nextInt(200);
+            if (operation < 10) {
+                indexed.add(value);
+                arrayList.add(value);
+            } else if (operation < 14) {
+                int index = random.nextInt(arrayList.size() + 1);
+                indexed.remove(index);
+                if (index < arrayList.size()) {
+                    arrayList.remove(index);
+                }
+            } else if (operation < 16) {
+                indexed.remove(Integer.valueOf(value));
+                arrayList.removeIf(current -> current == value);
+            } else if (operation == 16) {
+                int fromIndex = random.nextInt(arrayList.size() + 1);
+                int toIndex = Math.min(fromIndex + random.nextInt(5), arrayList.size());
+                indexed.removeRange(fromIndex, toIndex);
+                arrayList.subList(fromIndex, toIndex).clear();
+            } else if (operation == 17) {
+                indexed.removeIf(current -> current % 50 == value % 50);
+                arrayList.removeIf(current -> current % 50 == value % 50);
+            } else {
+                Assert.assertEquals(indexed.contains(value), arrayList.contains(value));
+                int index = random.nextInt(arrayList.size() + 1);
+                Assert.assertEquals(indexed.getOrDefault(index, -1),
+                        index < arrayList.size() ? arrayList.get(index) : Integer.valueOf(-1));
+            }
+            Assert.assertEquals(indexed.getSize(), arrayList.size());
+        }
+        Assert.assertEquals(indexed.stream().collect(Collectors.toList()), arrayList);
+    }
+
+    @Test
+    public void removeIfThrowingFilterTest() {
+
+        // the filter fails on its tenth value, no value should be removed or moved
+        HashIndexedArrayList<Integer> numbers = new HashIndexedArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            numbers.add(i);
+        }
+        int[] tested = {0};
+        try {
+            numbers.removeIf(value -> {
+                if (++tested[0] == 10) {
+                    throw new IllegalStateException("filter failed");
+                }
+                return value % 2 == 0;
+            });
+            Assert.fail("filter exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(numbers.getSize(), 20);
+        Assert.assertEquals(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+        Assert.assertEquals(numbers.getOrDefault(0, -1), Integer.valueOf(0));
+        Assert.assertTrue(numbers.contains(0));
+
+        numbers.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(numbers.getSize(), 10);
+        Assert.assertEquals(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9,11,13,15,17,19");
+        Assert.assertFalse(numbers.contains(0));
+        Assert.assertEquals(numbers.getOrDefault(0, -1), Integer.valueOf(1));
+    }
+}
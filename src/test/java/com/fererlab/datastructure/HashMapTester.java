@@ -0,0 +1,102 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.map.HashMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class HashMapTester {
+
+    // map reference to test
+    private HashMap<String, Integer> map;
+
+    @Before
+    public void prepare() {
+        // create empty map
+        map = new HashMap<>();
+    }
+
+    @Test
+    public void putRemoveTest() {
+
+        // initial size should be zero
+        Assert.assertEquals(map.getSize(), 0);
+        Assert.assertTrue(map.get("one").isEmpty());
+
+        map.put("one", 1);
+        map.put("two", 2);
+        map.put("one", 11);
+        Assert.assertEquals(map.getSize(), 2);
+        Assert.assertEquals(map.get("one").get(), Integer.valueOf(11));
+        Assert.assertEquals(map.getOrDefault("three", 3), Integer.valueOf(3));
+
+        // null values are kept, the key exists
+        map.put("null", null);
+        Assert.assertTrue(map.containsKey("null"));
+        Assert.assertTrue(map.get("null").isEmpty());
+
+        map.remove("one");
+        map.remove("missing");
+        Assert.assertFalse(map.containsKey("one"));
+        Assert.assertEquals(map.getSize(), 2);
+
+        map.clear();
+        Assert.assertEquals(map.getSize(), 0);
+        Assert.assertFalse(map.containsKey("two"));
+    }
+
+    @Test
+    public void loadFactorTest() {
+
+        HashMap<Integer, Integer> dense = new HashMap<>(100, 0.9f);
+        for (int i = 0; i < 100; i++) {
+            dense.put(i, i);
+        }
+        // expected size fits without growing
+        Assert.assertEquals(dense.getCapacity(), 128);
+
+        HashMap<Integer, Integer> other = new HashMap<>();
+        other.putAll(dense);
+        Assert.assertEquals(other.getSize(), 100);
+        Assert.assertEquals(other.getOrDefault(99, -1), Integer.valueOf(99));
+
+        try {
+            new HashMap<Integer, Integer>(10, 1.5f);
+            Assert.fail("load factor should be less than 1");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void sameAsJavaHashMapTest() {
+
+        Random random = new Random(42);
+        HashMap<Integer, Integer> map = new HashMap<>(4);
+        java.util.Map<Integer, Integer> javaMap = new java.util.HashMap<>();
+
+        for (int step = 0; step < 50000; step++) {
+            // keys are multiples of 64 so that many of them collide
+            int key = random.nextInt(500) * 64;
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                map.put(key, step);
+                javaMap.put(key, step);
+            } else if (operation == 1) {
+                map.remove(key);
+                javaMap.remove(key);
+            } else {
+                Assert.assertEquals(map.containsKey(key), javaMap.containsKey(key));
+                Assert.assertEquals(map.getOrDefault(key, -1), javaMap.getOrDefault(key, -1));
+            }
+            Assert.assertEquals(map.getSize(), javaMap.size());
+        }
+
+        long[] sum = new long[1];
+        map.forEach((key, value) -> sum[0] += key + value);
+        Assert.assertEquals(sum[0], javaMap.entrySet().stream().mapToLong(e -> e.getKey() + e.getValue()).sum());
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.linked.IndexLinkedList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexLinkedListTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    // linked list reference to test
+    private IndexLinkedList<String> list;
+
+    @Before
+    public void prepare() {
+        // create empty list
+        list = new IndexLinkedList<>(4);
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertNull(list.getHead());
+        Assert.assertEquals(list.getHeadHandle(), IndexLinkedList.NO_HANDLE);
+    }
+
+    @Test
+    public void addRemoveValueTest() {
+
+        list.add(testValueOne);
+        list.add(testValueTwo);
+        list.add(testValueThree);
+        Assert.assertEquals(list.getSize(), 3);
+        Assert.assertTrue(list.contains(testValueTwo));
+
+        // head is the last added value
+        Assert.assertEquals(list.get(0).get(), testValueThree);
+        Assert.assertEquals(list.getHead().getNext().getValue(), testValueTwo);
+        Assert.assertEquals(list.getTail().getValue(), testValueOne);
+
+        list.remove(testValueTwo);
+        Assert.assertEquals(list.getSize(), 2);
+        Assert.assertFalse(list.contains(testValueTwo));
+        Assert.assertEquals(list.get(1).get(), testValueOne);
+
+        // remove index greater than size, this should NOT raise an exception!!!
+        list.remove(99);
+        Assert.assertTrue(list.get(-1).isEmpty());
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+    }
+
+    @Test
+    public void handleTest() {
+
+        list.add(testValueOne);
+        int one = list.getHeadHandle();
+        list.addAfter(one, testValueThree);
+        int three = list.getNextHandle(one);
+        list.addBefore(three, testValueTwo);
+        int two = list.getPreviousHandle(three);
+
+        // one - two - three
+        Assert.assertEquals(list.getValue(two), testValueTwo);
+        Assert.assertEquals(list.getTailHandle(), three);
+        Assert.assertEquals(list.get(1).get(), testValueTwo);
+
+        // handles stay the same after other values are removed
+        list.unlink(two);
+        Assert.assertEquals(list.getValue(one), testValueOne);
+        Assert.assertEquals(list.getValue(three), testValueThree);
+        Assert.assertEquals(list.getNextHandle(one), three);
+
+        try {
+            list.getValue(two);
+            Assert.fail("removed handle should not be valid");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        // removed slot is reused
+        list.add(testValueTwo);
+        Assert.assertEquals(list.getHeadHandle(), two);
+    }
+
+    @Test
+    public void slotReuseTest() {
+
+        for (int i = 0; i < 4; i++) {
+            list.add("value " + i);
+        }
+        list.add("value");
+        list.unlink(list.getTailHandle());
+        int capacity = list.getCapacity();
+
+        // adding and removing the same number of values does not grow the arrays
+        for (int i = 0; i < 10000; i++) {
+            list.add("value " + i);
+            list.unlink(list.getTailHandle());
+        }
+        Assert.assertEquals(list.getCapacity(), capacity);
+        Assert.assertEquals(list.getSize(), 4);
+    }
+
+    @Test
+    public void iteratorTest() {
+
+        for (int i = 0; i < 10; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        // reverse iterator starts from the first added value
+        Iterator<String> reverse = list.reverseIterator();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(reverse.next(), String.valueOf(i));
+        }
+        Assert.assertFalse(reverse.hasNext());
+
+        // remove even values while iterating
+        Iterator<String> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (Integer.parseInt(iterator.next()) % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(list.getSize(), 5);
+        Assert.assertEquals(list.get(0).get(), "9");
+        Assert.assertEquals(list.get(4).get(), "1");
+
+        list.removeRange(1, 3);
+        Assert.assertEquals(list.getSize(), 3);
+        Assert.assertEquals(list.get(1).get(), "3");
+    }
+
+}
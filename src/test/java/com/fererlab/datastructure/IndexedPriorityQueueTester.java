@@ -0,0 +1,205 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.queue.IndexedPriorityQueue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+public class IndexedPriorityQueueTester {
+
+    private IndexedPriorityQueue<Integer> queue;
+
+    @Before
+    public void prepare() {
+        // create queue
+        queue = new IndexedPriorityQueue<>();
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(0, queue.getSize());
+        Assert.assertEquals(IndexedPriorityQueue.NO_HANDLE, queue.peekHandle());
+        Assert.assertTrue(queue.peek().isEmpty());
+        Assert.assertFalse(queue.contains(0));
+        Assert.assertFalse(queue.contains(-1));
+    }
+
+    @Test
+    public void addRemoveTest() {
+        queue.add(3, 30);
+        queue.add(1, 10);
+        queue.add(2, 20);
+        Assert.assertEquals(3, queue.getSize());
+        Assert.assertEquals(1, queue.peekHandle());
+        Assert.assertEquals(10, (int) queue.peekOrDefault(-1));
+        Assert.assertEquals(20, (int) queue.getOrDefault(2, -1));
+        Assert.assertTrue(queue.get(5).isEmpty());
+
+        // adding a handle twice or a negative handle should not be allowed
+        try {
+            queue.add(1, 5);
+            Assert.fail("duplicate handle should throw");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            queue.add(-1, 5);
+            Assert.fail("negative handle should throw");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        // remove by handle
+        queue.remove(2);
+        Assert.assertFalse(queue.contains(2));
+        Assert.assertEquals(2, queue.getSize());
+
+        // removing a missing handle should do nothing
+        queue.remove(2);
+        queue.remove(100);
+        Assert.assertEquals(2, queue.getSize());
+
+        // remove head
+        queue.remove();
+        Assert.assertEquals(3, queue.peekHandle());
+        queue.remove();
+        Assert.assertEquals(0, queue.getSize());
+        queue.remove();
+
+        // removed handles can be added again
+        queue.add(1, 7);
+        Assert.assertEquals(1, queue.peekHandle());
+
+        queue.clear();
+        Assert.assertEquals(0, queue.getSize());
+        Assert.assertFalse(queue.contains(1));
+    }
+
+    @Test
+    public void changeKeyTest() {
+        for (int handle = 0; handle < 10; handle++) {
+            queue.add(handle, 100 + handle);
+        }
+
+        // decrease key should move the handle to the head
+        queue.decreaseKey(7, 1);
+        Assert.assertEquals(7, queue.peekHandle());
+
+        // increase key should move it back down
+        queue.increaseKey(7, 200);
+        Assert.assertEquals(0, queue.peekHandle());
+
+        // update should move both ways and add missing handles
+        queue.update(9, 50);
+        Assert.assertEquals(9, queue.peekHandle());
+        queue.update(9, 300);
+        Assert.assertEquals(0, queue.peekHandle());
+        queue.update(20, 0);
+        Assert.assertEquals(20, queue.peekHandle());
+        Assert.assertEquals(11, queue.getSize());
+
+        // keys should not change in the wrong direction
+        try {
+            queue.decreaseKey(0, 1000);
+            Assert.fail("greater key should throw");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            queue.increaseKey(0, -1000);
+            Assert.fail("less key should throw");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            queue.decreaseKey(15, 1);
+            Assert.fail("missing handle should throw");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        // random operations should match a brute force minimum search
+        Random random = new Random(7);
+        for (int arity = 2; arity <= 4; arity++) {
+            IndexedPriorityQueue<Integer> heap = new IndexedPriorityQueue<>(Comparator.naturalOrder(), arity, 1);
+            Integer[] expected = new Integer[300];
+            for (int i = 0; i < 20000; i++) {
+                int handle = random.nextInt(expected.length);
+                int key = random.nextInt(1000);
+                int operation = random.nextInt(4);
+                if (operation == 0) {
+                    heap.update(handle, key);
+                    expected[handle] = key;
+                } else if (operation == 1) {
+                    heap.remove(handle);
+                    expected[handle] = null;
+                } else if (operation == 2 && expected[handle] != null) {
+                    if (key < expected[handle]) {
+                        heap.decreaseKey(handle, key);
+                    } else {
+                        heap.increaseKey(handle, key);
+                    }
+                    expected[handle] = key;
+                } else if (heap.getSize() > 0) {
+                    expected[heap.peekHandle()] = null;
+                    heap.remove();
+                }
+                int minimum = Integer.MAX_VALUE;
+                int count = 0;
+                for (Integer value : expected) {
+                    if (value != null) {
+                        minimum = Math.min(minimum, value);
+                        count++;
+                    }
+                }
+                Assert.assertEquals(count, heap.getSize());
+                if (count > 0) {
+                    Assert.assertEquals(minimum, (int) heap.peekOrDefault(-1));
+                    Assert.assertEquals(minimum, (int) expected[heap.peekHandle()]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shortestPathTest() {
+        // dijkstra on a grid where moving right costs 1 and moving down costs 2
+        int width = 50;
+        int height = 40;
+        int[] distances = new int[width * height];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[0] = 0;
+        queue.add(0, 0);
+        while (queue.getSize() > 0) {
+            int vertex = queue.peekHandle();
+            queue.remove();
+            int x = vertex % width;
+            int y = vertex / width;
+            if (x + 1 < width) {
+                relax(distances, vertex + 1, distances[vertex] + 1);
+            }
+            if (y + 1 < height) {
+                relax(distances, vertex + width, distances[vertex] + 2);
+            }
+        }
+        for (int vertex = 0; vertex < distances.length; vertex++) {
+            Assert.assertEquals(vertex % width + 2 * (vertex / width), distances[vertex]);
+        }
+    }
+
+    private void relax(int[] distances, int vertex, int distance) {
+        if (distance < distances[vertex]) {
+            distances[vertex] = distance;
+            queue.update(vertex, distance);
+        }
+    }
+
+}
@@ -6,6 +6,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.stream.Collectors;
+
 public class LinkedListTester {
 
     // testing value
@@ -151,4 +153,117 @@ public class LinkedListTester {
         Assert.assertEquals(list.getSize(), 0);
     }
 
+    @Test
+    public void iteratorOrderTest() {
+
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        // head is the last added value, iterator starts from head
+        Iterator<Integer> iterator = list.iterator();
+        int expected = 999;
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            Assert.assertEquals(value, Integer.valueOf(expected--));
+            // remove even values while iterating
+            if (value % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(list.getSize(), 500);
+        Assert.assertEquals(list.getHead().getValue(), Integer.valueOf(999));
+        Assert.assertEquals(list.getTail().getValue(), Integer.valueOf(1));
+
+        // reverse iterator starts from tail
+        Iterator<Integer> reverseIterator = list.reverseIterator();
+        expected = 1;
+        while (reverseIterator.hasNext()) {
+            Assert.assertEquals(reverseIterator.next(), Integer.valueOf(expected));
+            expected += 2;
+            reverseIterator.remove();
+        }
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertNull(list.getHead());
+        Assert.assertNull(list.getTail());
+    }
+
+    @Test
+    public void streamTest() {
+
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 1; i <= 10000; i++) {
+            list.add(i);
+        }
+
+        // parallel stream should see every value once, in head to tail order
+        Assert.assertEquals(list.parallelStream().mapToLong(Integer::longValue).sum(), 50005000L);
+        Assert.assertEquals(list.parallelStream().skip(9997).collect(Collectors.toList()).toString(), "[3, 2, 1]");
+        Assert.assertEquals(list.stream().count(), 10000L);
+    }
+
+    @Test
+    public void bulkOperationsTest() {
+
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+        Assert.assertEquals(list.getSize(), 10);
+
+        // remove even values, head is the last added value
+        list.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "9,7,5,3,1");
+
+        list.removeRange(1, 3);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "9,3,1");
+        Assert.assertEquals(list.getTail().getValue(), Integer.valueOf(1));
+
+        list.removeRange(1, 99);
+        Assert.assertEquals(list.getSize(), 1);
+        Assert.assertEquals(list.getHead(), list.getTail());
+    }
+
+    @Test
+    public void sequentialAccessTest() {
+
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 999; i >= 0; i--) {
+            list.add(i);
+        }
+
+        // neighbouring lookups start from the last found node
+        for (int i = 400; i < 600; i++) {
+            Assert.assertEquals(list.get(i).get(), Integer.valueOf(i));
+        }
+
+        // add moves every index by one, the cached node should follow
+        list.add(-1);
+        Assert.assertEquals(list.get(600).get(), Integer.valueOf(599));
+        Assert.assertEquals(list.get(598).get(), Integer.valueOf(597));
+
+        // removing the same index repeatedly removes the following values
+        for (int i = 0; i < 100; i++) {
+            list.remove(500);
+        }
+        Assert.assertEquals(list.get(499).get(), Integer.valueOf(498));
+        Assert.assertEquals(list.get(500).get(), Integer.valueOf(599));
+        Assert.assertEquals(list.getSize(), 901);
+
+        // removing the tail moves the cached node back
+        list.get(900);
+        list.remove(900);
+        Assert.assertEquals(list.get(899).get(), Integer.valueOf(998));
+
+        // iterator remove and clear invalidate the cached node
+        list.get(10);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        Assert.assertEquals(list.get(10).get(), Integer.valueOf(10));
+        list.clear();
+        Assert.assertTrue(list.get(0).isEmpty());
+        list.add(7);
+        Assert.assertEquals(list.get(0).get(), Integer.valueOf(7));
+    }
+
 }
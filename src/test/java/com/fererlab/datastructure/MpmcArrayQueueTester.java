@@ -0,0 +1,124 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.queue.MpmcArrayQueue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MpmcArrayQueueTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    private MpmcArrayQueue<String> queue;
+
+    @Before
+    public void prepare() {
+        // create queue, capacity rounds up to 4
+        queue = new MpmcArrayQueue<>(3);
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(queue.getSize(), 0);
+        Assert.assertEquals(queue.getCapacity(), 4);
+        Assert.assertNull(queue.poll());
+        Assert.assertTrue(queue.peek().isEmpty());
+    }
+
+    @Test
+    public void offerPollTest() {
+
+        Assert.assertTrue(queue.offer(testValueOne));
+        Assert.assertTrue(queue.offer(testValueTwo));
+        Assert.assertTrue(queue.offer(testValueThree));
+        Assert.assertEquals(queue.getSize(), 3);
+        Assert.assertTrue(queue.contains(testValueTwo));
+        Assert.assertEquals(queue.get(1).get(), testValueTwo);
+        Assert.assertEquals(queue.peekOrDefault(null), testValueOne);
+
+        // fill and overflow
+        Assert.assertTrue(queue.offer(testValueOne));
+        Assert.assertFalse(queue.offer(testValueOne));
+        Assert.assertEquals(queue.getSize(), 4);
+
+        // values come out in order, and the ring wraps around
+        Assert.assertEquals(queue.poll(), testValueOne);
+        Assert.assertTrue(queue.offer(testValueThree));
+        Assert.assertEquals(queue.poll(), testValueTwo);
+        Assert.assertEquals(queue.poll(), testValueThree);
+        Assert.assertEquals(queue.poll(), testValueOne);
+        Assert.assertEquals(queue.poll(), testValueThree);
+        Assert.assertNull(queue.poll());
+
+        queue.add(testValueOne);
+        queue.clear();
+        Assert.assertEquals(queue.getSize(), 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addFullTest() {
+        for (int i = 0; i < 5; i++) {
+            queue.add(testValueOne);
+        }
+    }
+
+    @Test
+    public void concurrentProducersConsumersTest() throws Exception {
+
+        final int threads = 4;
+        final int valuesPerProducer = 100000;
+        final MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(1024);
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final CountDownLatch done = new CountDownLatch(threads * 2);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    for (int i = 1; i <= valuesPerProducer && running.get(); i++) {
+                        while (!queue.offer(i) && running.get()) {
+                            Thread.yield();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+            new Thread(() -> {
+                try {
+                    while (count.get() < (long) threads * valuesPerProducer && running.get()) {
+                        Integer value = queue.poll();
+                        if (value != null) {
+                            sum.addAndGet(value);
+                            count.incrementAndGet();
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        // a lost value would keep the consumers waiting, stop them after the timeout so the test fails
+        boolean finished = done.await(30, TimeUnit.SECONDS);
+        running.set(false);
+        Assert.assertTrue(finished);
+
+        // every value should be consumed exactly once
+        Assert.assertEquals(count.get(), (long) threads * valuesPerProducer);
+        Assert.assertEquals(sum.get(), threads * ((long) valuesPerProducer * (valuesPerProducer + 1) / 2));
+        Assert.assertEquals(queue.getSize(), 0);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.list.array.ArrayList;
+import com.fererlab.datastructure.list.persistent.PersistentVector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+
+public class PersistentVectorTester {
+
+    @Test
+    public void zeroSizeTest() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        // initial size should be zero
+        Assert.assertEquals(vector.getSize(), 0);
+        Assert.assertTrue(vector.get(0).isEmpty());
+        Assert.assertSame(vector.pop(), vector);
+    }
+
+    @Test
+    public void versionsTest() {
+
+        PersistentVector<String> one = PersistentVector.<String>empty().append("Value One");
+        PersistentVector<String> two = one.append("Value Two");
+        PersistentVector<String> changed = two.with(0, "Value Three");
+
+        // older versions are not changed
+        Assert.assertEquals(one.getSize(), 1);
+        Assert.assertEquals(two.get(0).get(), "Value One");
+        Assert.assertEquals(changed.get(0).get(), "Value Three");
+        Assert.assertEquals(changed.get(1).get(), "Value Two");
+        Assert.assertEquals(changed.pop().getSize(), 1);
+        Assert.assertEquals(two.getSize(), 2);
+
+        // index out of range, this should NOT raise an exception!!!
+        Assert.assertSame(two.with(99, "Value Four"), two);
+    }
+
+    @Test
+    public void largeVectorTest() {
+
+        int count = 40000;
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < count; i++) {
+            vector = vector.append(i);
+        }
+        Assert.assertEquals(vector.getSize(), count);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(vector.get(i).get(), Integer.valueOf(i));
+        }
+
+        // update every 1000th value on a new version, the old one keeps its values
+        PersistentVector<Integer> updated = vector;
+        for (int i = 0; i < count; i += 1000) {
+            updated = updated.with(i, -i);
+        }
+        Assert.assertEquals(updated.get(5000).get(), Integer.valueOf(-5000));
+        Assert.assertEquals(updated.get(5001).get(), Integer.valueOf(5001));
+        Assert.assertEquals(vector.get(5000).get(), Integer.valueOf(5000));
+
+        // pop down through the levels of the trie
+        PersistentVector<Integer> popped = vector;
+        for (int i = count - 1; i >= 0; i--) {
+            Assert.assertEquals(popped.get(i).get(), Integer.valueOf(i));
+            popped = popped.pop();
+            if (i % 997 == 0) {
+                Assert.assertEquals(popped.getSize(), i);
+                Assert.assertEquals(popped.append(i).get(i).get(), Integer.valueOf(i));
+            }
+        }
+        Assert.assertEquals(popped.getSize(), 0);
+        Assert.assertEquals(vector.getSize(), count);
+
+        Assert.assertEquals(vector.stream().mapToLong(Integer::longValue).sum(), (long) count * (count - 1) / 2);
+        Assert.assertTrue(vector.contains(count - 1));
+        Assert.assertFalse(vector.contains(count));
+    }
+
+    @Test
+    public void fromTest() {
+
+        ArrayList<String> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(String.valueOf(i));
+        }
+        PersistentVector<String> vector = PersistentVector.from(list);
+        Assert.assertEquals(vector.getSize(), 100);
+        Assert.assertEquals(vector.stream().collect(Collectors.joining(",")),
+                list.stream().collect(Collectors.joining(",")));
+    }
+
+}
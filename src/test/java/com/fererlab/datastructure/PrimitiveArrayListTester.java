@@ -0,0 +1,135 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.DoubleIterator;
+import com.fererlab.datastructure.iterator.IntIterator;
+import com.fererlab.datastructure.iterator.LongIterator;
+import com.fererlab.datastructure.list.array.DoubleArrayList;
+import com.fererlab.datastructure.list.array.IntArrayList;
+import com.fererlab.datastructure.list.array.LongArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitiveArrayListTester {
+
+    @Test
+    public void intAddRemoveValueTest() {
+
+        IntArrayList list = new IntArrayList(3);
+        Assert.assertEquals(list.getSize(), 0);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 10);
+        }
+        Assert.assertEquals(list.getSize(), 100);
+        Assert.assertEquals(list.get(15), 5);
+        Assert.assertTrue(list.contains(9));
+        Assert.assertFalse(list.contains(10));
+
+        // out of index should return the default value
+        Assert.assertEquals(list.getOrDefault(100, -1), -1);
+        Assert.assertEquals(list.getOrDefault(-1, -1), -1);
+
+        // remove by value removes all matching values
+        list.removeValue(5);
+        Assert.assertEquals(list.getSize(), 90);
+        Assert.assertFalse(list.contains(5));
+
+        // remove by index
+        list.remove(0);
+        Assert.assertEquals(list.get(0), 1);
+
+        // remove index greater than size, this should NOT raise an exception!!!
+        list.remove(99);
+
+        // sum with forEach
+        final int[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        Assert.assertEquals(sum[0], 400);
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertFalse(list.contains(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void intGetOutOfIndexTest() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void intIteratorTest() {
+
+        IntArrayList list = new IntArrayList(3);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        // forward iteration, remove odd values
+        IntIterator iterator = list.iterator();
+        int expected = 0;
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            Assert.assertEquals(value, expected++);
+            if (value % 2 == 1) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(list.getSize(), 5);
+
+        // reverse iteration, remove all values
+        IntIterator reverseIterator = list.reverseIterator();
+        expected = 8;
+        while (reverseIterator.hasNext()) {
+            Assert.assertEquals(reverseIterator.next(), expected);
+            expected -= 2;
+            reverseIterator.remove();
+        }
+        Assert.assertEquals(list.getSize(), 0);
+    }
+
+    @Test
+    public void longIteratorTest() {
+
+        LongArrayList list = new LongArrayList(3);
+        for (long i = 0; i < 10; i++) {
+            list.add(i * Integer.MAX_VALUE);
+        }
+        Assert.assertTrue(list.contains(9L * Integer.MAX_VALUE));
+
+        list.removeValue(0L);
+        Assert.assertEquals(list.getSize(), 9);
+
+        LongIterator iterator = list.reverseIterator();
+        long expected = 9L * Integer.MAX_VALUE;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next(), expected);
+            expected -= Integer.MAX_VALUE;
+        }
+    }
+
+    @Test
+    public void doubleIteratorTest() {
+
+        DoubleArrayList list = new DoubleArrayList(3);
+        for (int i = 0; i < 10; i++) {
+            list.add(i / 2.0);
+        }
+        list.add(Double.NaN);
+
+        // NaN is equal to itself as in Double#equals
+        Assert.assertTrue(list.contains(Double.NaN));
+        list.removeValue(Double.NaN);
+        Assert.assertFalse(list.contains(Double.NaN));
+
+        DoubleIterator iterator = list.iterator();
+        double expected = 0;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next(), expected, 0.0);
+            expected += 0.5;
+        }
+        Assert.assertEquals(list.getOrDefault(10, -1.0), -1.0, 0.0);
+    }
+
+}
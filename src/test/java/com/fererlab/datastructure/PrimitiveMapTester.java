@@ -0,0 +1,93 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.map.IntIntMap;
+import com.fererlab.datastructure.map.IntObjectMap;
+import com.fererlab.datastructure.map.LongObjectMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class PrimitiveMapTester {
+
+    @Test
+    public void intIntMapTest() {
+
+        IntIntMap map = new IntIntMap(4);
+        Assert.assertEquals(map.getSize(), 0);
+        Assert.assertEquals(map.getOrDefault(1, -1), -1);
+
+        // key 0 is kept outside of the arrays
+        map.put(0, 10);
+        map.put(1, 11);
+        map.put(1, 21);
+        Assert.assertEquals(map.getSize(), 2);
+        Assert.assertTrue(map.containsKey(0));
+        Assert.assertEquals(map.getOrDefault(0, -1), 10);
+        Assert.assertEquals(map.getOrDefault(1, -1), 21);
+
+        map.remove(0);
+        Assert.assertFalse(map.containsKey(0));
+        Assert.assertEquals(map.getSize(), 1);
+
+        for (int i = 1; i <= 1000; i++) {
+            map.put(i, i * 2);
+        }
+        long[] sum = new long[1];
+        map.forEach((key, value) -> sum[0] += value - key);
+        Assert.assertEquals(sum[0], 500500L);
+
+        map.clear();
+        Assert.assertEquals(map.getSize(), 0);
+        Assert.assertFalse(map.containsKey(5));
+    }
+
+    @Test
+    public void intObjectMapTest() {
+
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(0, "zero");
+        map.put(-7, "minus seven");
+        Assert.assertEquals(map.get(0).get(), "zero");
+        Assert.assertEquals(map.getOrDefault(-7, null), "minus seven");
+        Assert.assertTrue(map.get(8).isEmpty());
+
+        map.remove(-7);
+        Assert.assertFalse(map.containsKey(-7));
+        Assert.assertEquals(map.getSize(), 1);
+
+        StringBuilder keys = new StringBuilder();
+        map.forEach((key, value) -> keys.append(key).append('=').append(value));
+        Assert.assertEquals(keys.toString(), "0=zero");
+    }
+
+    @Test
+    public void longObjectMapSameAsJavaHashMapTest() {
+
+        Random random = new Random(42);
+        LongObjectMap<Integer> map = new LongObjectMap<>(4, 0.75f);
+        java.util.Map<Long, Integer> javaMap = new java.util.HashMap<>();
+
+        for (int step = 0; step < 50000; step++) {
+            // keys differ only in the upper bits or are 0, so that many of them collide
+            long key = (long) random.nextInt(400) << 32;
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                map.put(key, step);
+                javaMap.put(key, step);
+            } else if (operation == 1) {
+                map.remove(key);
+                javaMap.remove(key);
+            } else {
+                Assert.assertEquals(map.containsKey(key), javaMap.containsKey(key));
+                Assert.assertEquals(map.getOrDefault(key, -1), javaMap.getOrDefault(key, -1));
+            }
+            Assert.assertEquals(map.getSize(), javaMap.size());
+        }
+
+        long[] sum = new long[1];
+        map.forEach((key, value) -> sum[0] += (key >>> 32) + value);
+        Assert.assertEquals(sum[0], javaMap.entrySet().stream().mapToLong(e -> (e.getKey() >>> 32) + e.getValue()).sum());
+    }
+
+}
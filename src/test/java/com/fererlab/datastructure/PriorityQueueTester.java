@@ -0,0 +1,217 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.queue.PriorityQueue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class PriorityQueueTester {
+
+    private PriorityQueue<Integer> queue;
+
+    @Before
+    public void prepare() {
+        // create queue
+        queue = new PriorityQueue<>();
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(0, queue.getSize());
+        Assert.assertTrue(queue.peek().isEmpty());
+        Assert.assertEquals(-1, (int) queue.peekOrDefault(-1));
+    }
+
+    @Test
+    public void peekMinimumTest() {
+        // head should always be the minimum
+        queue.addAll(new Integer[]{5, 3, 8, 1, 9, 2});
+        Assert.assertEquals(6, queue.getSize());
+        Assert.assertEquals(1, (int) queue.peekOrDefault(-1));
+        Assert.assertTrue(queue.contains(8));
+        Assert.assertFalse(queue.contains(4));
+
+        // values should come out in ascending order
+        int[] expected = {1, 2, 3, 5, 8, 9};
+        for (int value : expected) {
+            Assert.assertEquals(value, (int) queue.peekOrDefault(-1));
+            queue.remove();
+        }
+        Assert.assertEquals(0, queue.getSize());
+
+        // remove on empty queue should do nothing
+        queue.remove();
+        Assert.assertEquals(0, queue.getSize());
+    }
+
+    @Test
+    public void comparatorAndArityTest() {
+        // reverse order binary heap should return the maximum
+        PriorityQueue<Integer> maximumQueue = new PriorityQueue<>(Comparator.reverseOrder(), 2, 1);
+        for (int i = 0; i < 100; i++) {
+            maximumQueue.add(i);
+        }
+        Assert.assertEquals(100, maximumQueue.getSize());
+        for (int i = 99; i >= 0; i--) {
+            Assert.assertEquals(i, (int) maximumQueue.peekOrDefault(-1));
+            maximumQueue.remove();
+        }
+
+        // arity less than 2 should not be allowed
+        try {
+            new PriorityQueue<Integer>(Comparator.naturalOrder(), 1, 16);
+            Assert.fail("arity 1 should throw");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void heapifyTest() {
+        // heap built from an array should return values in order
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 7919) % values.length;
+        }
+        PriorityQueue<Integer> built = new PriorityQueue<>(Comparator.naturalOrder(), 3, values);
+        Assert.assertEquals(values.length, built.getSize());
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(i, (int) built.peekOrDefault(-1));
+            built.remove();
+        }
+    }
+
+    @Test
+    public void addAllSelfTest() {
+
+        // adding the queue to itself should copy the current values once
+        queue.addAll(new Integer[]{3, 1, 2});
+        queue.addAll(queue);
+        Assert.assertEquals(6, queue.getSize());
+        int[] expected = {1, 1, 2, 2, 3, 3};
+        for (int value : expected) {
+            Assert.assertEquals(value, (int) queue.peekOrDefault(-1));
+            queue.remove();
+        }
+    }
+
+    @Test
+    public void removeByValueAndIndexTest() {
+        queue.addAll(new Integer[]{4, 1, 7, 3, 7, 2});
+
+        // all equal values should be removed
+        queue.remove(Integer.valueOf(7));
+        Assert.assertEquals(4, queue.getSize());
+        Assert.assertFalse(queue.contains(7));
+
+        // removing the head by index should keep the order
+        queue.remove(0);
+        Assert.assertEquals(2, (int) queue.peekOrDefault(-1));
+
+        // out of range indices should do nothing
+        queue.remove(-1);
+        queue.remove(10);
+        Assert.assertEquals(3, queue.getSize());
+        Assert.assertTrue(queue.get(10).isEmpty());
+
+        // remove range and remove if should keep the heap valid
+        queue.addAll(new Integer[]{9, 0, 5});
+        queue.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(3, (int) queue.peekOrDefault(-1));
+        queue.removeRange(0, 1);
+        Assert.assertEquals(2, queue.getSize());
+        Assert.assertEquals(5, (int) queue.peekOrDefault(-1));
+
+        queue.clear();
+        Assert.assertEquals(0, queue.getSize());
+    }
+
+    @Test
+    public void iteratorTest() {
+        queue.addAll(new Integer[]{3, 1, 2});
+
+        // iteration should visit every value once in heap order
+        int sum = 0;
+        int count = 0;
+        for (Iterator<Integer> iterator = queue.iterator(); iterator.hasNext(); count++) {
+            sum += iterator.next();
+        }
+        Assert.assertEquals(6, sum);
+        Assert.assertEquals(3, count);
+        Assert.assertEquals(6, queue.stream().mapToInt(Integer::intValue).sum());
+
+        // iterators can not remove values
+        Iterator<Integer> iterator = queue.iterator();
+        iterator.next();
+        try {
+            iterator.remove();
+            Assert.fail("heap iterator remove should throw");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals(3, queue.getSize());
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        // random adds, removes and index removes should match java.util.PriorityQueue
+        Random random = new Random(42);
+        for (int arity = 2; arity <= 5; arity++) {
+            PriorityQueue<Integer> heap = new PriorityQueue<>(Comparator.naturalOrder(), arity, 4);
+            java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>();
+            for (int i = 0; i < 20000; i++) {
+                int operation = random.nextInt(10);
+                if (operation < 6) {
+                    int value = random.nextInt(500);
+                    heap.add(value);
+                    expected.add(value);
+                } else if (operation < 9) {
+                    heap.remove();
+                    expected.poll();
+                } else if (heap.getSize() > 0) {
+                    int index = random.nextInt(heap.getSize());
+                    Integer value = heap.getOrDefault(index, null);
+                    heap.remove(index);
+                    expected.remove(value);
+                }
+                Assert.assertEquals(expected.size(), heap.getSize());
+                Assert.assertEquals(expected.peek(), heap.peekOrDefault(null));
+            }
+        }
+    }
+
+    @Test
+    public void removeIfThrowingFilterTest() {
+
+        // the filter fails on its tenth value, no value should be removed or moved
+        // values added in order stay in order in the heap
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (int i = 0; i < 20; i++) {
+            queue.add(i);
+        }
+        int[] tested = {0};
+        try {
+            queue.removeIf(value -> {
+                if (++tested[0] == 10) {
+                    throw new IllegalStateException("filter failed");
+                }
+                return value % 2 == 0;
+            });
+            Assert.fail("filter exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(queue.getSize(), 20);
+        Assert.assertEquals(queue.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+
+        queue.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(queue.getSize(), 10);
+        Assert.assertEquals(queue.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9,11,13,15,17,19");
+    }
+}
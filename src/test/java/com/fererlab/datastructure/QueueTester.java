@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Date;
+import java.util.stream.Collectors;
 
 public class QueueTester {
 
@@ -191,4 +192,151 @@ public class QueueTester {
         Assert.assertEquals(queue.getSize(), 0);
     }
 
+    @Test
+    public void wrapAroundTest() throws Exception {
+
+        Queue<Integer> queue = new Queue<>();
+
+        // move the head forward so that the values wrap around the end of the internal array
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            queue.remove();
+        }
+        Assert.assertEquals(queue.getSize(), 0);
+
+        // add more values than the initial capacity, queue should expand and keep the order
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+        Assert.assertEquals(queue.getSize(), 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(queue.get(i).get(), Integer.valueOf(i));
+        }
+
+        // remove from the middle, order should be preserved
+        queue.remove(50);
+        Assert.assertEquals(queue.get(50).get(), Integer.valueOf(51));
+        queue.remove(1);
+        Assert.assertEquals(queue.get(1).get(), Integer.valueOf(2));
+
+        // dequeue all values in order
+        Integer previous = -1;
+        while (queue.getSize() > 0) {
+            Integer head = queue.peek().orElseThrow(new RuntimeException("no value found"));
+            Assert.assertTrue(head > previous);
+            previous = head;
+            queue.remove();
+        }
+        Assert.assertTrue(queue.peek().isEmpty());
+    }
+
+    @Test
+    public void peekOrDefaultTest() {
+
+        // empty queue returns the default value
+        Assert.assertEquals(queue.peekOrDefault(testValueFive), testValueFive);
+
+        queue.add(testValueOne);
+        queue.add(testValueTwo);
+        Assert.assertEquals(queue.peekOrDefault(testValueFive), testValueOne);
+        Assert.assertEquals(queue.getOrDefault(1, testValueFive), testValueTwo);
+        Assert.assertFalse(queue.isPresentAt(2));
+
+        // forEach should visit from head to tail
+        StringBuilder builder = new StringBuilder();
+        queue.forEach(builder::append);
+        Assert.assertEquals(builder.toString(), testValueOne + testValueTwo);
+    }
+
+    @Test
+    public void streamTest() {
+
+        Queue<Integer> queue = new Queue<>();
+        for (int i = 1; i <= 10000; i++) {
+            queue.add(i);
+        }
+        // move the head so that values wrap around
+        for (int i = 1; i <= 100; i++) {
+            queue.remove();
+            queue.add(10000 + i);
+        }
+
+        Assert.assertEquals(queue.parallelStream().mapToLong(Integer::longValue).sum(), 50005000L + 10000L * 100);
+        Assert.assertEquals(queue.stream().findFirst().get(), Integer.valueOf(101));
+        Assert.assertEquals(queue.parallelStream().filter(value -> value % 2 == 0).count(), 5000L);
+    }
+
+    @Test
+    public void bulkOperationsTest() {
+
+        Queue<Integer> queue = new Queue<>();
+        Integer[] values = new Integer[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        queue.addAll(values);
+        Assert.assertEquals(queue.getSize(), 100);
+
+        // dequeue the first ten values at once
+        queue.removeRange(0, 10);
+        Assert.assertEquals(queue.peek().get(), Integer.valueOf(10));
+
+        // remove from the middle
+        queue.removeRange(10, 20);
+        Assert.assertEquals(queue.get(10).get(), Integer.valueOf(30));
+        Assert.assertEquals(queue.getSize(), 80);
+
+        queue.removeIf(value -> value % 10 != 0);
+        Assert.assertEquals(queue.stream().map(String::valueOf).collect(Collectors.joining(",")), "10,30,40,50,60,70,80,90");
+
+        // adding after removals should keep the order
+        queue.addAll(values);
+        Assert.assertEquals(queue.getSize(), 108);
+        Assert.assertEquals(queue.get(8).get(), Integer.valueOf(0));
+    }
+
+    @Test
+    public void addAllSelfTest() {
+
+        // adding the queue to itself should copy the current values once, also after the head has moved
+        Queue<Integer> queue = new Queue<>();
+        queue.add(0);
+        queue.add(1);
+        queue.add(2);
+        queue.remove();
+        queue.addAll(queue);
+        Assert.assertEquals(queue.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,2,1,2");
+    }
+
+    @Test
+    public void removeIfThrowingFilterTest() {
+
+        // the filter fails on its tenth value, no value should be removed or moved
+        // the head is moved first so that the values wrap around the end of the buffer
+        Queue<Integer> queue = new Queue<>();
+        for (int i = -12; i < 20; i++) {
+            queue.add(i);
+        }
+        queue.removeRange(0, 12);
+        int[] tested = {0};
+        try {
+            queue.removeIf(value -> {
+                if (++tested[0] == 10) {
+                    throw new IllegalStateException("filter failed");
+                }
+                return value % 2 == 0;
+            });
+            Assert.fail("filter exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(queue.getSize(), 20);
+        Assert.assertEquals(queue.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+
+        queue.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(queue.getSize(), 10);
+        Assert.assertEquals(queue.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9,11,13,15,17,19");
+    }
 }
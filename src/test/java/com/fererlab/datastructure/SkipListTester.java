@@ -0,0 +1,174 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.skip.SkipList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class SkipListTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    // skip list reference to test
+    private SkipList<String> list;
+
+    @Before
+    public void prepare() {
+        // create empty list
+        list = new SkipList<>(new Random(42));
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertTrue(list.get(0).isEmpty());
+    }
+
+    @Test
+    public void addRemoveValueTest() {
+
+        list.add(testValueOne);
+        list.add(testValueThree);
+        list.add(1, testValueTwo);
+        Assert.assertEquals(list.getSize(), 3);
+        Assert.assertEquals(list.get(0).get(), testValueOne);
+        Assert.assertEquals(list.get(1).get(), testValueTwo);
+        Assert.assertEquals(list.get(2).get(), testValueThree);
+
+        list.remove(testValueTwo);
+        Assert.assertEquals(list.getSize(), 2);
+        Assert.assertFalse(list.contains(testValueTwo));
+        Assert.assertEquals(list.get(1).get(), testValueThree);
+
+        // index out of range, this should NOT raise an exception!!!
+        list.remove(99);
+        list.add(99, testValueTwo);
+        Assert.assertEquals(list.getSize(), 2);
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+        list.add(testValueOne);
+        Assert.assertEquals(list.get(0).get(), testValueOne);
+    }
+
+    @Test
+    public void iteratorTest() {
+
+        SkipList<Integer> numbers = new SkipList<>(new Random(7));
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+
+        // remove even values while iterating
+        Iterator<Integer> iterator = numbers.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9");
+
+        numbers.removeRange(1, 3);
+        Assert.assertEquals(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,7,9");
+    }
+
+    @Test
+    public void addAllSelfTest() {
+
+        // adding the list to itself should copy the current values once
+        SkipList<Integer> numbers = new SkipList<>();
+        for (int i = 0; i < 100; i++) {
+            numbers.add(i);
+        }
+        numbers.addAll(numbers);
+        Assert.assertEquals(numbers.getSize(), 200);
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals(numbers.get(i).get(), Integer.valueOf(i % 100));
+        }
+    }
+
+    @Test
+    public void sameAsArrayListTest() {
+
+        Random random = new Random(42);
+        SkipList<Integer> skipList = new SkipList<>(new Random(1));
+        java.util.List<Integer> arrayList = new java.util.ArrayList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(20);
+            if (operation < 10) {
+                int index = random.nextInt(arrayList.size() + 1);
+                int value = random.nextInt(100);
+                skipList.add(index, value);
+                arrayList.add(index, value);
+            } else if (operation < 17) {
+                int index = random.nextInt(arrayList.size() + 1);
+                skipList.remove(index);
+                if (index < arrayList.size()) {
+                    arrayList.remove(index);
+                }
+            } else if (operation == 17) {
+                int fromIndex = random.nextInt(arrayList.size() + 1);
+                int toIndex = Math.min(fromIndex + random.nextInt(5), arrayList.size());
+                skipList.removeRange(fromIndex, toIndex);
+                arrayList.subList(fromIndex, toIndex).clear();
+            } else if (operation == 18) {
+                int value = random.nextInt(100);
+                skipList.removeIf(current -> current == value);
+                arrayList.removeIf(current -> current == value);
+            } else {
+                int index = random.nextInt(arrayList.size() + 1);
+                Assert.assertEquals(skipList.getOrDefault(index, -1),
+                        index < arrayList.size() ? arrayList.get(index) : Integer.valueOf(-1));
+            }
+            Assert.assertEquals(skipList.getSize(), arrayList.size());
+        }
+
+        for (int i = 0; i < arrayList.size(); i++) {
+            Assert.assertEquals(skipList.get(i).get(), arrayList.get(i));
+        }
+        Assert.assertEquals(skipList.stream().collect(Collectors.toList()), arrayList);
+    }
+
+    @Test
+    public void removeIfThrowingFilterTest() {
+
+        // the filter fails on its tenth value, no value should be removed or moved
+        SkipList<Integer> numbers = new SkipList<>(new Random(11));
+        for (int i = 0; i < 20; i++) {
+            numbers.add(i);
+        }
+        int[] tested = {0};
+        try {
+            numbers.removeIf(value -> {
+                if (++tested[0] == 10) {
+                    throw new IllegalStateException("filter failed");
+                }
+                return value % 2 == 0;
+            });
+            Assert.fail("filter exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(numbers.getSize(), 20);
+        Assert.assertEquals(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(numbers.getOrDefault(i, -1), Integer.valueOf(i));
+        }
+
+        numbers.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(numbers.getSize(), 10);
+        Assert.assertEquals(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9,11,13,15,17,19");
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(numbers.getOrDefault(i, -1), Integer.valueOf(2 * i + 1));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.list.array.ArrayList;
+import com.fererlab.datastructure.queue.SpscArrayQueue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SpscArrayQueueTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    private SpscArrayQueue<String> queue;
+
+    @Before
+    public void prepare() {
+        // create queue, capacity rounds up to 4
+        queue = new SpscArrayQueue<>(3);
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(queue.getSize(), 0);
+        Assert.assertEquals(queue.getCapacity(), 4);
+        Assert.assertNull(queue.poll());
+        Assert.assertTrue(queue.peek().isEmpty());
+    }
+
+    @Test
+    public void offerPollTest() {
+
+        Assert.assertTrue(queue.offer(testValueOne));
+        Assert.assertTrue(queue.offer(testValueTwo));
+        Assert.assertTrue(queue.offer(testValueThree));
+        Assert.assertEquals(queue.getSize(), 3);
+        Assert.assertTrue(queue.contains(testValueTwo));
+        Assert.assertEquals(queue.get(2).get(), testValueThree);
+        Assert.assertEquals(queue.peekOrDefault(null), testValueOne);
+
+        // fill and overflow
+        Assert.assertTrue(queue.offer(testValueOne));
+        Assert.assertFalse(queue.offer(testValueOne));
+
+        Assert.assertEquals(queue.poll(), testValueOne);
+        Assert.assertEquals(queue.poll(), testValueTwo);
+        queue.clear();
+        Assert.assertEquals(queue.getSize(), 0);
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    public void batchOfferDrainTest() {
+
+        String[] values = new String[]{testValueOne, testValueTwo, testValueThree, testValueOne, testValueTwo};
+
+        // only four values fit
+        Assert.assertEquals(queue.offer(values, 0, values.length), 4);
+        Assert.assertEquals(queue.getSize(), 4);
+
+        // drain two, then the last value fits
+        ArrayList<String> drained = new ArrayList<>();
+        Assert.assertEquals(queue.drain(drained::add, 2), 2);
+        Assert.assertEquals(drained.get(0).get(), testValueOne);
+        Assert.assertEquals(drained.get(1).get(), testValueTwo);
+        Assert.assertEquals(queue.offer(values, 4, 1), 1);
+
+        // drain all, order is preserved across the wrap around
+        Assert.assertEquals(queue.drain(drained::add, Integer.MAX_VALUE), 3);
+        Assert.assertEquals(drained.getSize(), 5);
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(drained.get(i).get(), values[i]);
+        }
+    }
+
+    @Test
+    public void batchOfferBoundsTest() {
+
+        String[] values = new String[]{testValueOne, testValueTwo};
+
+        // a negative length adds nothing, a length beyond the array adds up to its last value
+        Assert.assertEquals(queue.offer(values, 0, -1), 0);
+        Assert.assertEquals(queue.offer(values, 2, 1), 0);
+        Assert.assertEquals(queue.offer(values, 1, 5), 1);
+        Assert.assertEquals(queue.getSize(), 1);
+        Assert.assertEquals(queue.poll(), testValueTwo);
+
+        // the offset should be inside the array
+        try {
+            queue.offer(values, -1, 1);
+            Assert.fail("offset exception should be thrown");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            queue.offer(values, 3, 0);
+            Assert.fail("offset exception should be thrown");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        Assert.assertEquals(queue.getSize(), 0);
+    }
+
+    @Test
+    public void drainThrowingConsumerTest() {
+
+        queue.offer(testValueOne);
+        queue.offer(testValueTwo);
+        queue.offer(testValueThree);
+
+        // the consumer fails on the second value
+        ArrayList<String> drained = new ArrayList<>();
+        try {
+            queue.drain(value -> {
+                if (testValueTwo.equals(value)) {
+                    throw new IllegalStateException("consumer failed");
+                }
+                drained.add(value);
+            }, Integer.MAX_VALUE);
+            Assert.fail("consumer exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // values passed to the consumer are removed, the rest is still in the queue
+        Assert.assertEquals(drained.getSize(), 1);
+        Assert.assertEquals(queue.getSize(), 1);
+        Assert.assertEquals(queue.poll(), testValueThree);
+        Assert.assertNull(queue.poll());
+
+        // all slots can be used again
+        for (int i = 0; i < queue.getCapacity(); i++) {
+            Assert.assertTrue(queue.offer(testValueOne));
+        }
+        Assert.assertEquals(queue.drain(value -> {
+        }, -1), 0);
+    }
+
+    @Test
+    public void producerConsumerTest() throws Exception {
+
+        final int count = 1000000;
+        final SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(1024);
+
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[64];
+            int next = 0;
+            while (next < count) {
+                int length = Math.min(batch.length, count - next);
+                for (int i = 0; i < length; i++) {
+                    batch[i] = next + i;
+                }
+                int offered = queue.offer(batch, 0, length);
+                next += offered;
+                if (offered == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        // consumer should see every value once and in order
+        final int[] expected = {0};
+        while (expected[0] < count) {
+            int drained = queue.drain(value -> {
+                Assert.assertEquals(value.intValue(), expected[0]);
+                expected[0]++;
+            }, 256);
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        Assert.assertEquals(queue.getSize(), 0);
+    }
+
+}
@@ -254,4 +254,36 @@ public class StackTester {
         System.out.println("result = " + stack.peek().get());
     }
 
+    @Test
+    public void peekOrDefaultTest() {
+
+        // empty stack returns the default value
+        Assert.assertEquals(stack.peekOrDefault(testValueSix), testValueSix);
+
+        stack.push(testValueOne);
+        stack.push(testValueTwo);
+        Assert.assertEquals(stack.peekOrDefault(testValueSix), testValueTwo);
+        Assert.assertEquals(stack.getOrDefault(1, testValueSix), testValueOne);
+        Assert.assertEquals(stack.getOrDefault(2, testValueSix), testValueSix);
+        Assert.assertEquals(stack.getOrDefault(-1, testValueSix), testValueSix);
+
+        // forEach should visit from top to bottom
+        StringBuilder builder = new StringBuilder();
+        stack.forEach(builder::append);
+        Assert.assertEquals(builder.toString(), testValueTwo + testValueOne);
+    }
+
+    @Test
+    public void streamTest() {
+
+        Stack<Integer> stack = new Stack<>();
+        for (int i = 1; i <= 10000; i++) {
+            stack.push(i);
+        }
+
+        // stream starts from the top
+        Assert.assertEquals(stack.stream().findFirst().get(), Integer.valueOf(10000));
+        Assert.assertEquals(stack.parallelStream().mapToLong(Integer::longValue).sum(), 50005000L);
+    }
+
 }
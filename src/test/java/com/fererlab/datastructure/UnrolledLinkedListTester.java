@@ -0,0 +1,217 @@
+package com.fererlab.datastructure;
+
+import com.fererlab.datastructure.iterator.Iterator;
+import com.fererlab.datastructure.list.linked.LinkedList;
+import com.fererlab.datastructure.list.linked.UnrolledLinkedList;
+import com.fererlab.datastructure.node.QNode;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class UnrolledLinkedListTester {
+
+    // testing value
+    private final String testValueOne = "Value One";
+    private final String testValueTwo = "Value Two";
+    private final String testValueThree = "Value Three";
+
+    // linked list reference to test
+    private UnrolledLinkedList<String> list;
+
+    @Before
+    public void prepare() {
+        // create empty list
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        // initial size should be zero
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertNull(list.getHead());
+        Assert.assertNull(list.getTail());
+    }
+
+    @Test
+    public void addRemoveValueTest() {
+
+        list.add(testValueOne);
+        list.add(testValueTwo);
+        list.add(testValueThree);
+        Assert.assertEquals(list.getSize(), 3);
+        Assert.assertTrue(list.contains(testValueTwo));
+
+        // head is the last added value
+        Assert.assertEquals(list.get(0).get(), testValueThree);
+        Assert.assertEquals(list.getHead().getValue(), testValueThree);
+        Assert.assertEquals(list.getHead().getNext().getValue(), testValueTwo);
+        Assert.assertEquals(list.getTail().getValue(), testValueOne);
+
+        list.remove(testValueTwo);
+        Assert.assertEquals(list.getSize(), 2);
+        Assert.assertFalse(list.contains(testValueTwo));
+
+        // remove index greater than size, this should NOT raise an exception!!!
+        list.remove(99);
+
+        list.clear();
+        Assert.assertEquals(list.getSize(), 0);
+    }
+
+    @Test
+    public void sameAsLinkedListTest() {
+
+        Random random = new Random(42);
+        UnrolledLinkedList<Integer> unrolled = new UnrolledLinkedList<>(8);
+        LinkedList<Integer> linked = new LinkedList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                int value = random.nextInt(100);
+                unrolled.add(value);
+                linked.add(value);
+            } else if (operation < 8) {
+                int index = random.nextInt(linked.getSize() + 1);
+                unrolled.remove(index);
+                linked.remove(index);
+            } else if (operation == 8) {
+                Integer value = random.nextInt(100);
+                unrolled.remove(value);
+                linked.remove(value);
+            } else {
+                int from = random.nextInt(linked.getSize() + 1);
+                int to = from + random.nextInt(5);
+                unrolled.removeRange(from, to);
+                linked.removeRange(from, to);
+            }
+            Assert.assertEquals(unrolled.getSize(), linked.getSize());
+        }
+
+        // same values in the same order
+        for (int i = 0; i < linked.getSize(); i++) {
+            Assert.assertEquals(unrolled.get(i).get(), linked.get(i).get());
+        }
+
+        // node views walk the same way
+        QNode<Integer> node = unrolled.getTail();
+        for (int i = linked.getSize() - 1; i >= 0; i--) {
+            Assert.assertEquals(node.getValue(), linked.get(i).get());
+            node = node.getPrevious();
+        }
+        Assert.assertNull(node);
+    }
+
+    @Test
+    public void iteratorRemoveTest() {
+
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        // remove values divisible by 3 with the iterator
+        Iterator<Integer> iterator = list.iterator();
+        int expected = 999;
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            Assert.assertEquals(value, Integer.valueOf(expected--));
+            if (value % 3 == 0) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(list.getSize(), 666);
+
+        // reverse iterator starts from tail, remove even values
+        Iterator<Integer> reverseIterator = list.reverseIterator();
+        int previous = -1;
+        while (reverseIterator.hasNext()) {
+            Integer value = reverseIterator.next();
+            Assert.assertTrue(value > previous);
+            Assert.assertTrue(value % 3 != 0);
+            previous = value;
+            if (value % 2 == 0) {
+                reverseIterator.remove();
+            }
+        }
+        Assert.assertEquals(list.getSize(), 333);
+
+        // forEach sees the same values
+        final int[] count = {0};
+        list.forEach(value -> {
+            Assert.assertTrue(value % 2 == 1 && value % 3 != 0);
+            count[0]++;
+        });
+        Assert.assertEquals(count[0], 333);
+
+        // remove all with the iterator
+        iterator = list.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        Assert.assertEquals(list.getSize(), 0);
+        Assert.assertNull(list.getHead());
+    }
+
+    @Test
+    public void bulkRemoveMergeTest() {
+
+        UnrolledLinkedList<Integer> numbers = new UnrolledLinkedList<>(32);
+        for (int i = 0; i < 3200; i++) {
+            numbers.add(i);
+        }
+        Assert.assertEquals(numbers.getChunkCount(), 100);
+
+        // keeping one value of sixteen leaves two values per chunk, sparse neighbours should be merged
+        numbers.removeIf(value -> value % 16 != 0);
+        Assert.assertEquals(numbers.getSize(), 200);
+        Assert.assertTrue(numbers.getChunkCount() <= 200 / 8 + 1);
+        int expected = 3200 - 16;
+        for (int i = 0; i < numbers.getSize(); i++, expected -= 16) {
+            Assert.assertEquals(numbers.get(i).get(), Integer.valueOf(expected));
+        }
+
+        // removing a range that leaves two sparse chunks around it should merge them
+        UnrolledLinkedList<Integer> range = new UnrolledLinkedList<>(32);
+        for (int i = 0; i < 320; i++) {
+            range.add(i);
+        }
+        range.removeRange(2, 318);
+        Assert.assertEquals(range.getSize(), 4);
+        Assert.assertEquals(range.getChunkCount(), 1);
+        Assert.assertEquals(range.stream().map(String::valueOf).collect(Collectors.joining(",")), "319,318,1,0");
+    }
+
+    @Test
+    public void removeIfThrowingFilterTest() {
+
+        // the filter fails on its tenth value, no value should be removed or moved
+        // values are added to head, small chunks spread them over several chunks
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 19; i >= 0; i--) {
+            list.add(i);
+        }
+        int[] tested = {0};
+        try {
+            list.removeIf(value -> {
+                if (++tested[0] == 10) {
+                    throw new IllegalStateException("filter failed");
+                }
+                return value % 2 == 0;
+            });
+            Assert.fail("filter exception should be thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(list.getSize(), 20);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+
+        list.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(list.getSize(), 10);
+        Assert.assertEquals(list.stream().map(String::valueOf).collect(Collectors.joining(",")), "1,3,5,7,9,11,13,15,17,19");
+    }
+}